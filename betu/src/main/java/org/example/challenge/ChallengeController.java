@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.challenge.dto.*;
 import org.example.challenge.entity.ChallengeScope;
 import org.example.challenge.entity.ChallengeTag;
+import org.example.general.CursorPageResponse;
 import org.example.user.UserService;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.MediaType;
@@ -75,18 +76,25 @@ public class ChallengeController {
     }
 
     @GetMapping("/scope/{scope}")
-    public ResponseEntity<List<ChallengeResponse>> getChallengesByScope(
+    @Operation(summary = "스코프별 챌린지 조회 (커서 페이지)")
+    public ResponseEntity<CursorPageResponse<ChallengeResponse>> getChallengesByScope(
             @PathVariable("scope") ChallengeScope scope,
-            @RequestParam(value = "crewId", required = false) Long crewId
+            @RequestParam(value = "crewId", required = false) Long crewId,
+            @RequestParam(value = "sort", defaultValue = "LATEST") ChallengeSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        List<ChallengeResponse> responses = challengeService.getChallengesByScope(scope, crewId);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(challengeService.getChallengesByScope(scope, crewId, sort, cursor, size));
     }
 
     @GetMapping("/popular")
-    @Operation(summary = "인기 챌린지 TOP3 조회")
-    public ResponseEntity<List<ChallengeResponse>> getPopularChallenges() {
-        return ResponseEntity.ok(challengeService.getPopularChallenges());
+    @Operation(summary = "인기 챌린지 TOP K 조회", description = "k 기본값 3 (최대 paging.max-size). scope/tag 로 필터 가능")
+    public ResponseEntity<List<ChallengeResponse>> getPopularChallenges(
+            @RequestParam(value = "k", required = false) Integer k,
+            @RequestParam(value = "scope", required = false) ChallengeScope scope,
+            @RequestParam(value = "tag", required = false) ChallengeTag tag
+    ) {
+        return ResponseEntity.ok(challengeService.getPopularChallenges(k, scope, tag));
     }
 
     @GetMapping("/me/likes")
@@ -104,25 +112,36 @@ public class ChallengeController {
     }
 
     @GetMapping
-    @Operation(summary = "전체 챌린지 조회")
-    public ResponseEntity<List<ChallengeResponse>> getAllChallenges() {
-        return ResponseEntity.ok(challengeService.getAllChallenges());
+    @Operation(summary = "전체 챌린지 조회 (커서 페이지)",
+            description = "sort=LATEST(최신순)/POPULAR(참가자순). 응답의 nextCursor를 다음 요청의 cursor로 전달")
+    public ResponseEntity<CursorPageResponse<ChallengeResponse>> getAllChallenges(
+            @RequestParam(value = "sort", defaultValue = "LATEST") ChallengeSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(challengeService.getAllChallenges(sort, cursor, size));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "챌린지 검색 (이름/설명 키워드)")
-    public ResponseEntity<List<ChallengeResponse>> searchChallenges(
-            @RequestParam("kw") String keyword
+    @Operation(summary = "챌린지 검색 (이름/설명 키워드, 관련도순 커서 페이지)",
+            description = "최근 색인된 매칭 챌린지 최대 10,000건 안에서의 관련도순. 그보다 오래된 매칭 결과는 반환하지 않음")
+    public ResponseEntity<CursorPageResponse<ChallengeResponse>> searchChallenges(
+            @RequestParam("kw") String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        return ResponseEntity.ok(challengeService.searchChallenges(keyword));
+        return ResponseEntity.ok(challengeService.searchChallenges(keyword, cursor, size));
     }
 
     @GetMapping("/by-tags")
-    @Operation(summary = "태그로 챌린지 조회 (하나라도 포함: OR)")
-    public ResponseEntity<List<ChallengeResponse>> getChallengesByTags(
-            @RequestParam("tags") Set<ChallengeTag> tags
+    @Operation(summary = "태그로 챌린지 조회 (하나라도 포함: OR, 커서 페이지)")
+    public ResponseEntity<CursorPageResponse<ChallengeResponse>> getChallengesByTags(
+            @RequestParam("tags") Set<ChallengeTag> tags,
+            @RequestParam(value = "sort", defaultValue = "LATEST") ChallengeSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
-        return ResponseEntity.ok(challengeService.getChallengesByTags(tags));
+        return ResponseEntity.ok(challengeService.getChallengesByTags(tags, sort, cursor, size));
     }
 
     /** 챌린지 참가(포인트 차감 + IN_PROGRESS 전환) */
@@ -0,0 +1,113 @@
+package org.example.challenge;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.challenge.repository.UserChallengeRepository;
+import org.example.general.CursorCodec;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 기간이 끝난 참가 기록(UserChallenge) 자동 정산.
+ * idx_user_challenge_status_ends 를 (endsAt, userChallengeId) keyset 으로 훑으면서 청크마다 짧은 트랜잭션으로 정산하고,
+ * 청크가 커밋될 때마다 커서를 Redis 에 남겨 재기동/장애 후 이어서 처리한다.
+ * 여러 인스턴스에서는 Redis 락을 잡은 하나만 돈다.
+ */
+@Slf4j
+@Component
+public class ChallengeLifecycleScheduler {
+
+    private static final String KEY_PREFIX = "challenge:lifecycle:";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final ChallengeService challengeService;
+    private final UserChallengeRepository userChallengeRepository;
+    private final RedissonClient redisson;
+    private final int chunkSize;
+
+    public ChallengeLifecycleScheduler(ChallengeService challengeService,
+                                       UserChallengeRepository userChallengeRepository,
+                                       RedissonClient redisson,
+                                       @Value("${challenge.lifecycle.chunk-size:500}") int chunkSize) {
+        this.challengeService = challengeService;
+        this.userChallengeRepository = userChallengeRepository;
+        this.redisson = redisson;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${challenge.lifecycle.interval-ms:60000}")
+    public void run() {
+        RLock lock = redisson.getLock(KEY_PREFIX + "lock");
+        if (!lock.tryLock()) return; // 다른 인스턴스가 실행 중 (watchdog 으로 실행 동안 자동 연장)
+        try {
+            settleExpired(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("챌린지 자동 정산 중단, 다음 실행에서 체크포인트부터 재개", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void settleExpired(LocalDateTime now) {
+        RBucket<String> checkpoint = redisson.getBucket(KEY_PREFIX + "checkpoint", StringCodec.INSTANCE);
+        long[] cursor = CursorCodec.decode(checkpoint.get(), 2);
+        LocalDateTime cursorEndsAt = (cursor == null) ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(cursor[0]), ZONE);
+        Long cursorId = (cursor == null) ? null : cursor[1];
+
+        long started = System.currentTimeMillis();
+        int scanned = 0;
+        int settled = 0;
+        while (true) {
+            List<Object[]> rows = userChallengeRepository.findExpiredAfter(
+                    now, cursorEndsAt, cursorId, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) break;
+
+            List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+            settled += settleChunk(ids, now);
+            scanned += ids.size();
+
+            Object[] last = rows.get(rows.size() - 1);
+            cursorEndsAt = (LocalDateTime) last[1];
+            cursorId = (Long) last[0];
+            checkpoint.set(CursorCodec.encode(cursorEndsAt.atZone(ZONE).toInstant().toEpochMilli(), cursorId));
+
+            if (rows.size() < chunkSize) break;
+        }
+
+        // 한 바퀴 끝: 실패로 건너뛴 행은 다음 실행에서 처음부터 다시 시도
+        checkpoint.delete();
+        if (scanned > 0) {
+            log.info("챌린지 자동 정산 scanned={} settled={} ({}ms)", scanned, settled, System.currentTimeMillis() - started);
+        }
+    }
+
+    // 청크 트랜잭션이 실패하면 행 단위로 다시 시도해서 문제 행만 건너뜀
+    private int settleChunk(List<Long> ids, LocalDateTime now) {
+        try {
+            return challengeService.settleExpired(ids, now);
+        } catch (RuntimeException e) {
+            log.warn("챌린지 정산 청크 실패, 행 단위로 재시도 size={}", ids.size(), e);
+        }
+        int settled = 0;
+        for (Long id : ids) {
+            try {
+                settled += challengeService.settleExpired(List.of(id), now);
+            } catch (RuntimeException e) {
+                log.warn("챌린지 정산 실패 userChallengeId={}", id, e);
+            }
+        }
+        return settled;
+    }
+}
@@ -9,19 +9,37 @@ import org.example.challenge.repository.ChallengeLikeRepository;
 import org.example.challenge.repository.ChallengeRepository;
 import org.example.challenge.repository.UserChallengeRepository;
 import org.example.challenge.repository.ChallengeImageRepository;
+import org.example.crew.CrewLeaderboardService;
 import org.example.crew.entity.Crew;
 import org.example.crew.entity.UserCrew;
 import org.example.crew.entity.UserCrewRole;
 import org.example.crew.repository.CrewRepository;
 import org.example.crew.repository.UserCrewRepository;
+import org.example.general.CursorCodec;
+import org.example.general.CursorPageResponse;
+import org.example.general.PagingPolicy;
 import org.example.general.S3Uploader;
+import org.example.general.UploadedImage;
+import org.example.like.LikeCounterService;
+import org.example.like.LikeTarget;
+import org.example.money.PointLedger;
+import org.example.money.PointLedgerService;
+import org.example.search.SearchHits;
+import org.example.search.SearchIndexService;
 import org.example.user.UserRole;
+import org.example.verification_image.VerificationDuplicateIndex;
 import org.example.verification_image.VerificationImageRepository;
 import org.example.user.User;
 import org.example.user.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -35,9 +53,12 @@ import java.util.stream.Collectors;
 @Transactional
 public class ChallengeService {
 
+    private static final int DEFAULT_POPULAR_SIZE = 3;
+
     private final ChallengeRepository challengeRepository;
     private final UserChallengeRepository userChallengeRepository;
     private final VerificationImageRepository verificationImageRepository;
+    private final VerificationDuplicateIndex verificationDuplicateIndex;
     private final CrewRepository crewRepository;
 
     private final UserRepository userRepository;
@@ -46,8 +67,16 @@ public class ChallengeService {
     private final ChallengeImageRepository challengeImageRepository;
 
     private final S3Uploader s3Uploader;
+    private final PagingPolicy pagingPolicy;
+    private final SearchIndexService searchIndexService;
+    private final LikeCounterService likeCounterService;
+    private final CrewLeaderboardService crewLeaderboardService;
+    private final PointLedgerService pointLedgerService;
+    private final TransactionTemplate transactionTemplate;
 
     // 챌린지 생성
+    // 이미지는 트랜잭션 밖에서 병렬 업로드, 챌린지/이미지 행은 업로드가 끝난 뒤 짧은 트랜잭션 하나로 저장
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public ChallengeDetailResponse create(Long userId, ChallengeCreateRequest dto, List<MultipartFile> images) throws IOException {
         // 1) 작성자(creator) = 토큰 사용자
         User creator = userRepository.findById(userId)
@@ -96,48 +125,55 @@ public class ChallengeService {
         }
 
 
-        // PERSONAL이면 group == null 유지
-        Challenge challenge = dto.toEntity(crew, creator, finalScope);
-        Challenge saved = challengeRepository.save(challenge);
+        Long crewIdValue = (crew != null) ? crew.getCrewId() : 0L;
+        List<UploadedImage> uploaded = s3Uploader.uploadAll(images, String.format("crew/%d/challenge", crewIdValue));
 
-        userChallengeRepository.save(new UserChallenge(creator, saved, UserChallengeRole.CREATOR));
+        Crew challengeCrew = crew;
+        return transactionTemplate.execute(status -> {
+            // PERSONAL이면 group == null 유지
+            Challenge challenge = dto.toEntity(challengeCrew, creator, finalScope);
+            Challenge saved = challengeRepository.save(challenge);
+            searchIndexService.indexChallenge(saved);
 
-        if (images != null && !images.isEmpty()) {
-            int order = 0;
-            for (MultipartFile file : images) {
-                Long crewIdValue = (crew != null) ? crew.getCrewId() : 0L;
-                String prefix = String.format("crew/%d/challenge/%d", crewIdValue, saved.getChallengeId());
-                String url = s3Uploader.uploadImageUnderPrefix(file, prefix);
+            userChallengeRepository.save(new UserChallenge(creator, saved, UserChallengeRole.CREATOR));
+            if (challengeCrew != null) {
+                crewLeaderboardService.recordParticipation(challengeCrew.getCrewId(), userId);
+            }
 
-                ChallengeImage pi = ChallengeImage.builder()
+            int order = 0;
+            for (UploadedImage image : uploaded) {
+                challengeImageRepository.save(ChallengeImage.builder()
                         .challenge(saved)
-                        .imageUrl(url)
+                        .imageUrl(image.getImageUrl())
+                        .mediumUrl(image.getMediumUrl())
+                        .thumbnailUrl(image.getThumbnailUrl())
                         .sortOrder(order)
                         .isThumbnail(order == 0)
-                        .build();
-                challengeImageRepository.save(pi);
+                        .build());
                 order++;
             }
-        }
 
-        return toDetailResponse(saved, false, 0, false, false);
+            s3Uploader.registerAfterCommit(uploaded);
+
+            List<String> imageUrls = uploaded.stream().map(UploadedImage::getImageUrl).toList();
+            return toDetailResponse(saved, imageUrls, false, 0, false, false);
+        });
     }
 
     // 챌린지 좋아요
     public ChallengeLikeResponse challengeLike(Long userId, Long challengeId) {
-        Challenge ch = challengeRepository.findById(challengeId)
-                .orElseThrow(() -> new RuntimeException("챌린지를 찾을 수 없습니다."));
+        if (!challengeRepository.existsById(challengeId)) {
+            throw new RuntimeException("챌린지를 찾을 수 없습니다.");
+        }
 
-        boolean exists = challengeLikeRepository.existsByUserIdAndChallengeId(userId, challengeId);
-        if (exists) {
-            challengeLikeRepository.deleteByUserIdAndChallengeId(userId, challengeId); // 해제
-            ch.decreaseLikeCount();
-            return new ChallengeLikeResponse(false);
-        } else {
-            challengeLikeRepository.save(new ChallengeLike(userId, challengeId)); // 저장
-            ch.increaseLikeCount();
-            return new ChallengeLikeResponse(true);
+        // 좋아요 행만 저장/삭제하고 challengeLikeCnt 는 LikeCounterService 가 모아서 반영 (챌린지 행 update 없음)
+        boolean liked = challengeLikeRepository.deleteLike(userId, challengeId) == 0; // 해제
+        // 동시에 들어온 첫 좋아요는 한 요청만 행을 추가, 나머지는 이미 좋아요 상태로 응답하고 카운트하지 않음
+        int delta = liked ? challengeLikeRepository.insertLike(userId, challengeId) : -1; // 저장
+        if (delta != 0) {
+            likeCounterService.record(LikeTarget.CHALLENGE, challengeId, delta);
         }
+        return new ChallengeLikeResponse(liked);
     }
 
     // 챌린지 삭제
@@ -156,9 +192,15 @@ public class ChallengeService {
                 .orElseThrow(() -> new RuntimeException("챌린지를 찾을 수 없습니다."));
 
         verificationImageRepository.deleteAllByUserChallenge_Challenge_ChallengeId(challengeId);
+        verificationDuplicateIndex.evictAfterCommit(challengeId);
         userChallengeRepository.deleteAllByChallenge_ChallengeId(challengeId);
+        if (challenge.getCrew() != null) {
+            // 참여 기록이 통째로 빠지므로 크루 랭킹은 다음 조회 때 재구성
+            crewLeaderboardService.invalidate(challenge.getCrew().getCrewId());
+        }
         challengeLikeRepository.deleteAllByChallengeId(challengeId);
         challengeRepository.deleteById(challengeId);
+        searchIndexService.removeChallenge(challengeId);
     }
 
     // 하나의 챌린지 조회
@@ -192,39 +234,49 @@ public class ChallengeService {
         Challenge challenge = challengeRepository.findWithCrewByChallengeId(challengeId)
                 .orElseThrow(() -> new EntityNotFoundException("챌린지를 찾을 수 없습니다."));
 
-        // 기존 참가 기록 있으면 재사용, 없으면 생성
-        UserChallenge uc = userChallengeRepository
-                .findByUser_UserIdAndChallenge_ChallengeId(userId, challengeId)
-                .orElseGet(() -> {
-                    // 새로 만들 때만 유저 조회 필요 (지연 참조로 과쿼리 방지)
-                    User userRef = userRepository.getReferenceById(userId);
-                    return new UserChallenge(userRef, challenge, UserChallengeRole.PARTICIPANT);
-                });
-
-        // 이미 진행 중이면 거부
-        if (uc.getUserChallengeStatus() == UserChallengeStatus.IN_PROGRESS) {
-            throw new IllegalStateException("이미 해당 챌린지에 참가 중입니다.");
+        long betAmount = (betAmountRequest.getBetAmount() == null) ? 0L : betAmountRequest.getBetAmount();
+        if (betAmount < 0) {
+            throw new IllegalArgumentException("베팅 금액이 올바르지 않습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endsAt = challenge.getChallengeDuration() > 0
+                ? now.plusDays(challenge.getChallengeDuration())
+                : null;
+
+        // 기존 참가 기록은 조건부 update 로 다시 열고, 없으면 생성 (유니크 키가 동시 첫 참가를 막음)
+        Optional<UserChallenge> existing = userChallengeRepository.findByUser_UserIdAndChallenge_ChallengeId(userId, challengeId);
+        boolean isNewParticipation = existing.isEmpty();
+        Long userChallengeId;
+        if (existing.isPresent()) {
+            userChallengeId = existing.get().getUserChallengeId();
+            if (userChallengeRepository.reopen(userChallengeId, betAmount, now, endsAt) != 1) {
+                throw new IllegalStateException("이미 해당 챌린지에 참가 중입니다.");
+            }
+        } else {
+            // 새로 만들 때만 유저 조회 필요 (지연 참조로 과쿼리 방지)
+            UserChallenge uc = new UserChallenge(userRepository.getReferenceById(userId), challenge, UserChallengeRole.PARTICIPANT);
+            uc.startRun(betAmount, now, endsAt);
+            try {
+                userChallengeRepository.saveAndFlush(uc);
+            } catch (DataIntegrityViolationException dup) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 해당 챌린지에 참가 중입니다.");
+            }
+            userChallengeId = uc.getUserChallengeId();
         }
 
-        // 포인트 차감
-        User user = (uc.getUser() != null) ? uc.getUser() : userRepository.getReferenceById(userId);
-        if (user.getPoint() < betAmountRequest.getBetAmount()) {
-            throw new IllegalStateException("포인트가 부족합니다.");
+        // 포인트 차감 (잔액 조건부 원자적 update, 부족하면 예외 → 참가 전체 롤백)
+        // 위에서 행을 연 요청만 여기까지 오므로 베팅은 한 번만 차감된다
+        if (betAmount > 0) {
+            pointLedgerService.debit(userId, betAmount, PointLedger.Type.BET, userChallengeId);
         }
-        user.subtractPoint(betAmountRequest.getBetAmount());  // User 엔티티에 subtractPoint(long) 필요
-
-        // 4) 베팅 금액 기록 + 상태 전환
-        UserChallengeStatus prev = uc.getUserChallengeStatus();
-        uc.makeBetAmount(betAmountRequest.getBetAmount());
-        uc.changeStatus(UserChallengeStatus.IN_PROGRESS);
-        userChallengeRepository.save(uc);
-
-        // 5) 참가자 수 증가 규칙
-        if (prev != UserChallengeStatus.IN_PROGRESS) {
-            challenge.increaseParticipantCount();
-            challengeRepository.save(challenge);
+
+        if (isNewParticipation && challenge.getCrew() != null) {
+            crewLeaderboardService.recordParticipation(challenge.getCrew().getCrewId(), userId);
         }
 
+        challengeRepository.increaseParticipantCount(challengeId);
+
         boolean liked = challengeLikeRepository
                 .existsByUserIdAndChallengeId(userId, challengeId);
 
@@ -238,29 +290,77 @@ public class ChallengeService {
                 .findByUser_UserIdAndChallenge_ChallengeId(userId, challengeId)
                 .orElseThrow(() -> new EntityNotFoundException("참여 이력 없음"));
 
-        if (uc.getUserChallengeStatus() == UserChallengeStatus.COMPLETED) {
-            throw new IllegalStateException("이미 완료된 챌린지입니다.");
+        if (uc.getUserChallengeStatus() != UserChallengeStatus.IN_PROGRESS) {
+            throw new IllegalStateException("진행 중인 챌린지가 아닙니다.");
         }
         if (uc.getBetAmount() == null || uc.getBetAmount() <= 0) {
             throw new IllegalStateException("베팅 금액이 없습니다.");
         }
 
+        return settle(uc);
+    }
+
+    // IN_PROGRESS -> COMPLETED 조건부 전이에 성공한 요청만 환급 (동시 요청/스케줄러와 중복 지급 방지)
+    private SettleSuccessResponse settle(UserChallenge uc) {
+        if (!transition(uc, UserChallengeStatus.COMPLETED)) {
+            throw new IllegalStateException("이미 정산된 챌린지입니다.");
+        }
+        return creditSettlement(uc);
+    }
+
+    // 전이에 성공한 뒤에만 호출
+    private SettleSuccessResponse creditSettlement(UserChallenge uc) {
         long refund = uc.getBetAmount();
+        Long userId = uc.getUser().getUserId();
 
         // 1) 스테이크 환급
-        uc.getUser().addPoint(refund);
+        pointLedgerService.credit(userId, refund, PointLedger.Type.SETTLE_REFUND, uc.getUserChallengeId());
 
         // 2) 랜덤 보상 (0~100%)
         int percent = (int) Math.round(Math.random() * 100.0);
         long bonus = Math.round(refund * (percent / 100.0));
-        if (bonus > 0) uc.getUser().addPoint(bonus);
-
-        // 3) 상태 업데이트
-        uc.changeStatus(UserChallengeStatus.COMPLETED);
+        if (bonus > 0) {
+            pointLedgerService.credit(userId, bonus, PointLedger.Type.SETTLE_BONUS, uc.getUserChallengeId());
+        }
 
         return new SettleSuccessResponse(refund, bonus);
     }
 
+    private boolean transition(UserChallenge uc, UserChallengeStatus to) {
+        return userChallengeRepository.transitionStatus(
+                uc.getUserChallengeId(), UserChallengeStatus.IN_PROGRESS, to) == 1;
+    }
+
+    /**
+     * 기간이 끝난 참가 기록 일괄 정산 (ChallengeLifecycleScheduler 가 청크 단위로 호출, 청크당 트랜잭션 하나).
+     * 이번 회차 기간 안에 승인된 인증 날짜 수가 챌린지 기간 이상이면 settleSuccess 와 같이 환급 + 보너스 후 COMPLETED,
+     * 아니면 스테이크 몰수 후 FAILED.
+     * 그 사이 수동 정산/취소된 행은 건너뛴다. 반환: 처리한 행 수
+     */
+    public int settleExpired(Collection<Long> userChallengeIds, LocalDateTime now) {
+        int settled = 0;
+        Map<Long, Long> approvedDays = new HashMap<>();
+        for (Object[] row : verificationImageRepository.countApprovedDaysInRun(userChallengeIds)) {
+            approvedDays.put((Long) row[0], (Long) row[1]);
+        }
+
+        for (UserChallenge uc : userChallengeRepository.findAllWithChallengeByIds(userChallengeIds)) {
+            if (uc.getUserChallengeStatus() != UserChallengeStatus.IN_PROGRESS
+                    || uc.getEndsAt() == null || uc.getEndsAt().isAfter(now)) {
+                continue;
+            }
+            boolean achieved = uc.isGoalAchieved(approvedDays.getOrDefault(uc.getUserChallengeId(), 0L));
+            if (!transition(uc, achieved ? UserChallengeStatus.COMPLETED : UserChallengeStatus.FAILED)) {
+                continue; // 로드한 뒤 수동 정산/취소됨
+            }
+            if (achieved && uc.getBetAmount() != null && uc.getBetAmount() > 0) {
+                creditSettlement(uc);
+            }
+            settled++;
+        }
+        return settled;
+    }
+
     /** 실패/취소: 스테이크 환급(정책상 전액/일부), 상태 FAILED */
     @Transactional
     public void cancelBet(Long userId, Long challengeId) {
@@ -275,16 +375,19 @@ public class ChallengeService {
         long stake = uc.getBetAmount() == null ? 0L : uc.getBetAmount();
         if (stake <= 0) return;
 
-        uc.changeStatus(UserChallengeStatus.FAILED);
+        transition(uc, UserChallengeStatus.FAILED); // 그 사이 정산됐으면 아무것도 안 바뀜
     }
 
-    // 인기 챌린지 3개 조회
-    public List<ChallengeResponse> getPopularChallenges() {
-        List<Challenge> top3 = challengeRepository.findTop3ByOrderByChallengeParticipantCntDesc();
+    // 인기 챌린지 TOP K 조회 (참가자 수 내림차순)
+    // 인기순 keyset 쿼리를 커서 없이 limit K 로 재사용 → 인덱스 앞쪽 K건만 읽으므로 테이블 크기와 무관
+    public List<ChallengeResponse> getPopularChallenges(Integer k, ChallengeScope scope, ChallengeTag tag) {
+        int topK = (k == null) ? DEFAULT_POPULAR_SIZE : pagingPolicy.resolve(k);
+        Pageable limit = PageRequest.of(0, topK);
 
-        return top3.stream()
-                .map(this::toResponse)
-                .toList();
+        List<Challenge> top = (tag == null)
+                ? challengeRepository.findPageOrderByParticipantsDesc(scope, null, null, null, limit)
+                : challengeRepository.findPageByAnyTagsOrderByParticipantsDesc(Set.of(tag), scope, null, null, limit);
+        return toResponses(top);
     }
 
     // 좋아요한 챌린지 조회
@@ -306,37 +409,33 @@ public class ChallengeService {
         Map<Long, Challenge> challengeById = challenges.stream()
                 .collect(Collectors.toMap(Challenge::getChallengeId, Function.identity()));
 
+        // 썸네일 한 번에 조회
+        Map<Long, String> thumbnails = findThumbnailUrls(challenges);
+
         // likes 순서를 보존해서 응답 생성 (모두 liked=true)
         return likes.stream()
                 .map(like -> {
                     Challenge c = challengeById.get(like.getChallengeId());
-                    return c == null ? null : toChallengeWithLikeResponse(c, true);
+                    return c == null ? null : toChallengeWithLikeResponse(c, thumbnails.get(c.getChallengeId()), true);
                 })
                 .filter(Objects::nonNull)
                 .toList();
     }
 
-    @Transactional
-    public List<ChallengeResponse> getChallengesByScope(ChallengeScope scope, Long crewId) {
+    public CursorPageResponse<ChallengeResponse> getChallengesByScope(ChallengeScope scope, Long crewId,
+                                                                     ChallengeSort sort, String cursor, Integer size) {
         if (scope == null) {
             throw new IllegalArgumentException("scope는 필수입니다.");
         }
 
-        List<Challenge> list;
-
         if (scope == ChallengeScope.CREW) {
             if (crewId == null) {
                 throw new IllegalArgumentException("CREW 스코프 조회에는 crewId가 필요합니다.");
             }
-            list = challengeRepository.findCrewScopeByCrewIdWithCrew(crewId);
-        } else {
-            // BETU, PUBLIC, (있다면) PERSONAL 등
-            list = challengeRepository.findByScopeWithCrew(scope);
+            return findPage(scope, crewId, sort, cursor, size);
         }
-
-        return list.stream()
-                .map(this::toResponse)
-                .toList();
+        // BETU, PUBLIC, (있다면) PERSONAL 등
+        return findPage(scope, null, sort, cursor, size);
     }
 
     // 내 챌린지 조회
@@ -365,54 +464,129 @@ public class ChallengeService {
                 .map(ChallengeLike::getChallengeId)
                 .collect(Collectors.toSet());
 
-        // 4) 오늘 인증 여부 맵(루프로 체크)
+        // 4) 오늘 인증한 챌린지 id 세트 (참여 챌린지 수와 무관하게 쿼리 1번)
         LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
-        Map<Long, Boolean> todayVerifiedMap = new HashMap<>();
-        for (Long cid : challengeIds) {
-            boolean todayVerified = verificationImageRepository
-                    .existsByUserChallenge_User_UserIdAndUserChallenge_Challenge_ChallengeIdAndUploadedAtBetween(
-                            userId, cid, startOfDay, endOfDay);
-            todayVerifiedMap.put(cid, todayVerified);
-        }
+        Set<Long> todayVerifiedIds = new HashSet<>(
+                verificationImageRepository.findVerifiedChallengeIds(userId, startOfDay, endOfDay));
 
-        // 5) 상세 응답으로 매핑
+        // 5) 이미지 갤러리 한 번에
+        Map<Long, List<String>> imageUrlsById = findImageUrls(challengeIds);
+
+        // 6) 상세 응답으로 매핑
         return challenges.stream()
                 .map(c -> {
                     boolean isParticipating = true; // 내 챌린지 목록이므로 항상 true
                     int progress = progressByChallengeId.getOrDefault(c.getChallengeId(), 0);
                     boolean liked = likedChallengeIds.contains(c.getChallengeId());
-                    boolean todayVerified = todayVerifiedMap.getOrDefault(c.getChallengeId(), false);
-                    return toDetailResponse(c, isParticipating, progress, liked, todayVerified);
+                    boolean todayVerified = todayVerifiedIds.contains(c.getChallengeId());
+                    List<String> imageUrls = imageUrlsById.getOrDefault(c.getChallengeId(), List.of());
+                    return toDetailResponse(c, imageUrls, isParticipating, progress, liked, todayVerified);
                 })
                 .toList();
     }
 
     // 태그로 챌린지 조회 (하나라도 포함: OR)
-    public List<ChallengeResponse> getChallengesByTags(Set<ChallengeTag> tags) {
-        if (tags == null || tags.isEmpty()) return Collections.emptyList();
-        List<Challenge> list = challengeRepository.findByAnyTagsWithCrew(tags);
-        return list.stream().map(this::toResponse).toList();
+    public CursorPageResponse<ChallengeResponse> getChallengesByTags(Set<ChallengeTag> tags,
+                                                                    ChallengeSort sort, String cursor, Integer size) {
+        if (tags == null || tags.isEmpty()) return CursorPageResponse.empty();
+
+        int pageSize = pagingPolicy.resolve(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 존재 여부 확인용 +1
+        List<Challenge> rows;
+        if (sort == ChallengeSort.POPULAR) {
+            long[] key = CursorCodec.decode(cursor, 2);
+            rows = challengeRepository.findPageByAnyTagsOrderByParticipantsDesc(
+                    tags, null, key == null ? null : (int) key[0], key == null ? null : key[1], limit);
+        } else {
+            long[] key = CursorCodec.decode(cursor, 1);
+            rows = challengeRepository.findPageByAnyTagsOrderByIdDesc(tags, null, key == null ? null : key[0], limit);
+        }
+        return toPage(rows, pageSize, sort);
     }
 
-    // 챌린지 검색 (이름/설명 키워드)
-    public List<ChallengeResponse> searchChallenges(String keyword) {
-        if (keyword == null || keyword.isBlank()) return Collections.emptyList();
-        List<Challenge> list = challengeRepository.searchWithCrew(keyword.trim());
-        return list.stream().map(this::toResponse).toList();
+    // 챌린지 검색 (이름/설명 키워드): 역색인에서 관련도 순 id 를 받아 해당 챌린지만 조회
+    // 커서 = 이전 페이지 마지막 결과의 (점수, challengeId)
+    public CursorPageResponse<ChallengeResponse> searchChallenges(String keyword, String cursor, Integer size) {
+        if (keyword == null || keyword.isBlank()) return CursorPageResponse.empty();
+
+        int pageSize = pagingPolicy.resolve(size);
+        long[] key = CursorCodec.decode(cursor, 2); // (점수, challengeId)
+
+        SearchHits hits = searchIndexService.searchChallenges(keyword.trim(), key, pageSize);
+        if (hits.getIds().isEmpty()) return CursorPageResponse.empty();
+
+        Map<Long, Challenge> byId = challengeRepository.findAllWithCrewByIdIn(hits.getIds()).stream()
+                .collect(Collectors.toMap(Challenge::getChallengeId, Function.identity()));
+        List<Challenge> ranked = hits.getIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hits.isHasNext() ? CursorCodec.encode(hits.getLastScore(), hits.getLastId()) : null;
+        return CursorPageResponse.of(toResponses(ranked), nextCursor);
     }
 
     // 전체 챌린지 조회
-    public List<ChallengeResponse> getAllChallenges() {
-        List<Challenge> list = challengeRepository.findAllWithCrew();
-        return list.stream().map(this::toResponse).toList();
+    public CursorPageResponse<ChallengeResponse> getAllChallenges(ChallengeSort sort, String cursor, Integer size) {
+        return findPage(null, null, sort, cursor, size);
+    }
+
+    // keyset 페이지 조회: 깊은 페이지도 offset 스캔 없이 인덱스 범위 조회로 처리
+    private CursorPageResponse<ChallengeResponse> findPage(ChallengeScope scope, Long crewId,
+                                                         ChallengeSort sort, String cursor, Integer size) {
+        int pageSize = pagingPolicy.resolve(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 존재 여부 확인용 +1
+        List<Challenge> rows;
+        if (sort == ChallengeSort.POPULAR) {
+            long[] key = CursorCodec.decode(cursor, 2); // (참가자 수, challengeId)
+            rows = challengeRepository.findPageOrderByParticipantsDesc(
+                    scope, crewId, key == null ? null : (int) key[0], key == null ? null : key[1], limit);
+        } else {
+            long[] key = CursorCodec.decode(cursor, 1); // (challengeId)
+            rows = challengeRepository.findPageOrderByIdDesc(scope, crewId, key == null ? null : key[0], limit);
+        }
+        return toPage(rows, pageSize, sort);
     }
 
-    private ChallengeResponse toResponse(Challenge c) {
-        String thumbnailUrl = challengeImageRepository
-                .findTopByChallenge_ChallengeIdOrderBySortOrderAsc(c.getChallengeId())
-                .map(ChallengeImage::getImageUrl)
-                .orElse(null);
+    private CursorPageResponse<ChallengeResponse> toPage(List<Challenge> rows, int pageSize, ChallengeSort sort) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Challenge> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Challenge last = page.get(page.size() - 1);
+            nextCursor = (sort == ChallengeSort.POPULAR)
+                    ? CursorCodec.encode(last.getChallengeParticipantCnt(), last.getChallengeId())
+                    : CursorCodec.encode(last.getChallengeId());
+        }
+        return CursorPageResponse.of(toResponses(page), nextCursor);
+    }
+
+    // 목록 응답 변환: 썸네일을 챌린지 수와 무관하게 한 번의 쿼리로 조회 (N+1 방지)
+    private List<ChallengeResponse> toResponses(List<Challenge> challenges) {
+        if (challenges.isEmpty()) return Collections.emptyList();
+        Map<Long, String> thumbnails = findThumbnailUrls(challenges);
+        return challenges.stream()
+                .map(c -> toResponse(c, thumbnails.get(c.getChallengeId())))
+                .toList();
+    }
+
+    // challengeId -> 첫 번째 이미지 URL
+    private Map<Long, String> findThumbnailUrls(Collection<Challenge> challenges) {
+        if (challenges.isEmpty()) return Collections.emptyMap();
+        List<Long> ids = challenges.stream()
+                .map(Challenge::getChallengeId)
+                .toList();
+
+        Map<Long, String> thumbnails = new HashMap<>();
+        for (Object[] row : challengeImageRepository.findThumbnailUrlsByChallengeIds(ids)) {
+            thumbnails.putIfAbsent((Long) row[0], (String) row[1]); // sortOrder 중복 시 먼저 등록된 이미지
+        }
+        return thumbnails;
+    }
+
+    private ChallengeResponse toResponse(Challenge c, String thumbnailUrl) {
         return new ChallengeResponse(
                 c.getChallengeId(),
                 c.getChallengeScope(),
@@ -429,11 +603,7 @@ public class ChallengeService {
         );
     }
 
-    private ChallengeWithLikeResponse toChallengeWithLikeResponse(Challenge c, boolean liked) {
-        String thumbnailUrl = challengeImageRepository
-                .findTopByChallenge_ChallengeIdOrderBySortOrderAsc(c.getChallengeId())
-                .map(ChallengeImage::getImageUrl)
-                .orElse(null);
+    private ChallengeWithLikeResponse toChallengeWithLikeResponse(Challenge c, String thumbnailUrl, boolean liked) {
         return new ChallengeWithLikeResponse(
                 c.getChallengeId(),
                 c.getChallengeScope(),
@@ -451,12 +621,24 @@ public class ChallengeService {
         );
     }
 
+    // challengeId -> 이미지 URL 목록 (sortOrder 순), 단건/목록 모두 이 쿼리 하나로
+    private Map<Long, List<String>> findImageUrls(Collection<Long> challengeIds) {
+        if (challengeIds.isEmpty()) return Map.of();
+        Map<Long, List<String>> urls = new HashMap<>();
+        for (Object[] row : challengeImageRepository.findImageUrlsByChallengeIds(challengeIds)) {
+            urls.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return urls;
+    }
+
     private ChallengeDetailResponse toDetailResponse(Challenge c, boolean isParticipating, int progress, boolean liked, boolean todayVerified) {
-        List<String> imageUrls = challengeImageRepository
-                .findByChallenge_ChallengeIdOrderBySortOrderAsc(c.getChallengeId())
-                .stream()
-                .map(ChallengeImage::getImageUrl)
-                .toList();
+        List<String> imageUrls = findImageUrls(List.of(c.getChallengeId()))
+                .getOrDefault(c.getChallengeId(), List.of());
+        return toDetailResponse(c, imageUrls, isParticipating, progress, liked, todayVerified);
+    }
+
+    private ChallengeDetailResponse toDetailResponse(Challenge c, List<String> imageUrls, boolean isParticipating,
+                                                     int progress, boolean liked, boolean todayVerified) {
         return new ChallengeDetailResponse(
                 c.getChallengeId(),
                 c.getChallengeScope(),
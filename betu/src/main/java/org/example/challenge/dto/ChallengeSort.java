@@ -0,0 +1,7 @@
+package org.example.challenge.dto;
+
+/** 챌린지 목록 정렬 기준 */
+public enum ChallengeSort {
+    LATEST,   // 최신순 (challengeId desc)
+    POPULAR   // 참가자 많은 순 (challengeParticipantCnt desc, challengeId desc)
+}
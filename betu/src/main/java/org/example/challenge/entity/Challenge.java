@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.example.challenge.dto.ChallengeCreateRequest;
 import org.example.crew.entity.Crew;
 import org.example.user.User;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -18,6 +19,11 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 인기순 keyset 페이지 (challengeParticipantCnt desc, challengeId desc)
+        @Index(name = "idx_challenge_participant_cnt_id", columnList = "challengeParticipantCnt, challengeId"),
+        @Index(name = "idx_challenge_scope_id", columnList = "challengeScope, challengeId")
+})
 public class Challenge {
 
     @Id
@@ -37,6 +43,7 @@ public class Challenge {
     private User creator;
 
     @ElementCollection
+    @BatchSize(size = 100) // 목록 응답에서 태그 컬렉션을 IN 절로 묶어서 로딩
     @CollectionTable(name = "challenge_tags",
             joinColumns = @JoinColumn(name = "challenge_id"))
     @Column(name = "tag", nullable = false, length = 50)
@@ -44,6 +51,7 @@ public class Challenge {
     private Set<ChallengeTag> tags = new HashSet<>();
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "challenge_custom_tags",
             joinColumns = @JoinColumn(name = "challenge_id"))
     @Column(name = "custom_tag", nullable = false, length = 50)
@@ -55,21 +63,9 @@ public class Challenge {
     private String challengeName;
     private String challengeDescription;
     private int challengeDuration;
+    @Column(updatable = false) // LikeCounterService 의 일괄 update 로만 변경
     private int challengeLikeCnt;
+    @Column(updatable = false) // ChallengeRepository.increaseParticipantCount 로만 변경
     private int challengeParticipantCnt;
 
-    public void increaseLikeCount() {
-        this.challengeLikeCnt++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.challengeLikeCnt > 0) {
-            this.challengeLikeCnt--;
-        }
-    }
-
-    public void increaseParticipantCount() {
-        this.challengeParticipantCnt++;
-    }
-
 }
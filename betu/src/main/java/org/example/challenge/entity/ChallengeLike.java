@@ -9,6 +9,7 @@ import org.example.user.User;
 @Entity
 @NoArgsConstructor
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_challenge_like_user_challenge", columnNames = {"user_id", "challenge_id"}))
 public class ChallengeLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
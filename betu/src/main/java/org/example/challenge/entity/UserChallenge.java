@@ -5,9 +5,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.user.User;
 
+import java.time.LocalDateTime;
+
 @Entity
 @NoArgsConstructor
 @Getter
+@Table(uniqueConstraints = {
+        // 유저당 챌린지 참가 기록 하나 (동시 첫 참가는 여기서 한 쪽만 성공)
+        @UniqueConstraint(name = "uk_user_challenge_user_challenge", columnNames = {"user_id", "challenge_id"})
+}, indexes = {
+        // 만료 참가 기록 스캔 (ChallengeLifecycleScheduler keyset: endsAt, userChallengeId)
+        @Index(name = "idx_user_challenge_status_ends", columnList = "userChallengeStatus, endsAt, userChallengeId")
+})
 public class UserChallenge {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +42,12 @@ public class UserChallenge {
     @Column(nullable = false)
     private Long betAmount = 0L;
 
+    // 이번 회차 시작 시점 (이 시점 이후 인증만 이번 회차 성공 판정에 셈)
+    private LocalDateTime startedAt;
+
+    // 참가 시점 + 챌린지 기간, 지나면 스케줄러가 자동 정산 (기간 없는 챌린지는 null)
+    private LocalDateTime endsAt;
+
 
     public UserChallenge(User user, Challenge challenge, UserChallengeRole userChallengeRole) {
         this.user = user;
@@ -59,6 +74,20 @@ public class UserChallenge {
         this.userChallengeStatus = userChallengeStatus;
     }
 
+    // 참가/재참가: 새 회차 시작 (이전 회차 진행일수는 넘어오지 않음)
+    public void startRun(Long betAmount, LocalDateTime startedAt, LocalDateTime endsAt) {
+        this.betAmount = betAmount;
+        this.progressDay = 0;
+        this.userChallengeStatus = UserChallengeStatus.IN_PROGRESS;
+        this.startedAt = startedAt;
+        this.endsAt = endsAt;
+    }
+
+    // 기간 동안 매일 인증했는지 (승인된 인증 날짜 수 기준, progressDay 는 업로드마다 올라가므로 쓰지 않음)
+    public boolean isGoalAchieved(long approvedDays) {
+        return approvedDays >= challenge.getChallengeDuration();
+    }
+
     public void makeBetAmount(Long betAmount) {
         this.betAmount = betAmount;
     }
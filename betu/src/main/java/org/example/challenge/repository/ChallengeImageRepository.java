@@ -2,7 +2,10 @@ package org.example.challenge.repository;
 
 import org.example.challenge.entity.ChallengeImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +14,27 @@ public interface ChallengeImageRepository extends JpaRepository<ChallengeImage,
 
     List<ChallengeImage> findByChallenge_ChallengeIdOrderBySortOrderAsc(Long challengeId);
 
+    // 여러 챌린지의 첫 번째 이미지(sortOrder 최소) 썸네일을 한 번에 조회: [challengeId, thumbnailUrl (없으면 원본)]
+    @Query("""
+        select ci.challenge.challengeId, coalesce(ci.thumbnailUrl, ci.imageUrl)
+          from ChallengeImage ci
+         where ci.challenge.challengeId in :challengeIds
+           and ci.sortOrder = (
+                select min(ci2.sortOrder)
+                  from ChallengeImage ci2
+                 where ci2.challenge = ci.challenge
+           )
+         order by ci.challengeImageId asc
+    """)
+    List<Object[]> findThumbnailUrlsByChallengeIds(@Param("challengeIds") Collection<Long> challengeIds);
+
+    // 여러 챌린지의 전체 이미지를 한 번에 조회: [challengeId, imageUrl] (챌린지별 sortOrder 순)
+    @Query("""
+        select ci.challenge.challengeId, ci.imageUrl
+          from ChallengeImage ci
+         where ci.challenge.challengeId in :challengeIds
+         order by ci.challenge.challengeId asc, ci.sortOrder asc
+    """)
+    List<Object[]> findImageUrlsByChallengeIds(@Param("challengeIds") Collection<Long> challengeIds);
+
 }
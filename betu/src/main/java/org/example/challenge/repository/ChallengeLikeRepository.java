@@ -2,14 +2,27 @@ package org.example.challenge.repository;
 
 import org.example.challenge.entity.ChallengeLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ChallengeLikeRepository extends JpaRepository<ChallengeLike, Long> {
     boolean existsByUserIdAndChallengeId(Long userId, Long challengeId);
-    void deleteByUserIdAndChallengeId(Long userId, Long challengeId);
 
     void deleteAllByChallengeId(Long challengeId);
     List<ChallengeLike> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    // 0 이면 좋아요 상태가 아니었음
+    @Modifying
+    @Query("delete from ChallengeLike cl where cl.userId = :userId and cl.challengeId = :challengeId")
+    int deleteLike(@Param("userId") Long userId, @Param("challengeId") Long challengeId);
+
+    // 이미 있으면 0 (동시에 들어온 첫 좋아요도 unique 위반 없이 한 요청만 1)
+    @Modifying
+    @Query(value = "insert ignore into challenge_like (user_id, challenge_id) values (:userId, :challengeId)",
+            nativeQuery = true)
+    int insertLike(@Param("userId") Long userId, @Param("challengeId") Long challengeId);
+}
@@ -3,53 +3,132 @@ package org.example.challenge.repository;
 import org.example.challenge.entity.Challenge;
 import org.example.challenge.entity.ChallengeScope;
 import org.example.challenge.entity.ChallengeTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
 
-    @Query("select distinct c from Challenge c left join fetch c.crew")
-    List<Challenge> findAllWithCrew();
-
-    @Query("select c from Challenge c left join fetch c.crew order by c.challengeParticipantCnt desc")
-    List<Challenge> findTop3ByOrderByChallengeParticipantCntDesc();
-
     @Query("select c from Challenge c left join fetch c.crew where c.challengeId = :challengeId")
     Optional<Challenge> findWithCrewByChallengeId(@Param("challengeId") Long challengeId);
 
     @Query("select distinct c from Challenge c left join fetch c.crew where c.challengeId in :ids")
     List<Challenge> findAllWithCrewByIdIn(@Param("ids") List<Long> ids);
 
-    @Query("select distinct c from Challenge c left join fetch c.crew join c.tags t where t in :tags")
-    List<Challenge> findByAnyTagsWithCrew(@Param("tags") Set<ChallengeTag> tags);
+    // ===== 커서(keyset) 페이지 조회 =====
+    // scope / crewId 는 null 이면 조건 미적용, pageable 은 limit 용도로만 사용 (offset 0)
+
+    // 최신순: challengeId desc, 커서 = 마지막 challengeId
+    @Query("""
+        select c
+          from Challenge c
+          left join fetch c.crew cr
+         where (:scope is null or c.challengeScope = :scope)
+           and (:crewId is null or cr.crewId = :crewId)
+           and (:cursorId is null or c.challengeId < :cursorId)
+         order by c.challengeId desc
+    """)
+    List<Challenge> findPageOrderByIdDesc(@Param("scope") ChallengeScope scope,
+                                          @Param("crewId") Long crewId,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
 
-    @Query("select distinct c from Challenge c left join fetch c.crew where lower(c.challengeName) like lower(concat('%', :kw, '%')) or lower(c.challengeDescription) like lower(concat('%', :kw, '%'))")
-    List<Challenge> searchWithCrew(@Param("kw") String keyword);
+    // 인기순: challengeParticipantCnt desc, challengeId desc, 커서 = (마지막 참가자 수, 마지막 challengeId)
+    @Query("""
+        select c
+          from Challenge c
+          left join fetch c.crew cr
+         where (:scope is null or c.challengeScope = :scope)
+           and (:crewId is null or cr.crewId = :crewId)
+           and (:cursorId is null
+                or c.challengeParticipantCnt < :cursorCnt
+                or (c.challengeParticipantCnt = :cursorCnt and c.challengeId < :cursorId))
+         order by c.challengeParticipantCnt desc, c.challengeId desc
+    """)
+    List<Challenge> findPageOrderByParticipantsDesc(@Param("scope") ChallengeScope scope,
+                                                    @Param("crewId") Long crewId,
+                                                    @Param("cursorCnt") Integer cursorCnt,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
 
+    // 태그(하나라도 포함: OR) + 최신순. 태그 조인 대신 exists 로 중복 행 없이 limit 적용 (scope 는 null 이면 미적용)
     @Query("""
         select c
-        from Challenge c
-        left join fetch c.crew
-        where c.challengeScope = :scope
+          from Challenge c
+          left join fetch c.crew
+         where exists (select 1 from Challenge c2 join c2.tags t
+                        where c2.challengeId = c.challengeId and t in :tags)
+           and (:scope is null or c.challengeScope = :scope)
+           and (:cursorId is null or c.challengeId < :cursorId)
+         order by c.challengeId desc
     """)
-    List<Challenge> findByScopeWithCrew(@Param("scope") ChallengeScope scope);
+    List<Challenge> findPageByAnyTagsOrderByIdDesc(@Param("tags") Set<ChallengeTag> tags,
+                                                   @Param("scope") ChallengeScope scope,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
 
+    // 태그(하나라도 포함: OR) + 인기순
     @Query("""
         select c
-        from Challenge c
-        join fetch c.crew cr
-        where c.challengeScope = org.example.challenge.entity.ChallengeScope.CREW
-          and cr.crewId = :crewId
+          from Challenge c
+          left join fetch c.crew
+         where exists (select 1 from Challenge c2 join c2.tags t
+                        where c2.challengeId = c.challengeId and t in :tags)
+           and (:scope is null or c.challengeScope = :scope)
+           and (:cursorId is null
+                or c.challengeParticipantCnt < :cursorCnt
+                or (c.challengeParticipantCnt = :cursorCnt and c.challengeId < :cursorId))
+         order by c.challengeParticipantCnt desc, c.challengeId desc
     """)
-    List<Challenge> findCrewScopeByCrewIdWithCrew(@Param("crewId") Long crewId);
+    List<Challenge> findPageByAnyTagsOrderByParticipantsDesc(@Param("tags") Set<ChallengeTag> tags,
+                                                             @Param("scope") ChallengeScope scope,
+                                                             @Param("cursorCnt") Integer cursorCnt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
+    // 검색 색인 구축용: [challengeId, challengeName, challengeDescription]
+    @Query("""
+        select c.challengeId, c.challengeName, c.challengeDescription
+          from Challenge c
+         where c.challengeId > :lastId
+         order by c.challengeId asc
+    """)
+    List<Object[]> findIndexSourceAfter(@Param("lastId") Long lastId, Pageable pageable);
 
     Long countByCrew_CrewId(Long crewId);
 
+    // 크루별 챌린지 수: [crewId, count]
+    @Query("""
+        select c.crew.crewId, count(c)
+          from Challenge c
+         where c.crew.crewId in :crewIds
+         group by c.crew.crewId
+    """)
+    List<Object[]> countByCrewIds(@Param("crewIds") Collection<Long> crewIds);
+
     List<Challenge> findByTagsContaining(ChallengeTag tag);
+
+    // 참가자 수 +1 (읽고-쓰기 대신 원자적 증가)
+    @Modifying(flushAutomatically = true)
+    @Query("update Challenge c set c.challengeParticipantCnt = c.challengeParticipantCnt + 1 where c.challengeId = :challengeId")
+    int increaseParticipantCount(@Param("challengeId") Long challengeId);
+
+    // LikeCounterService 전용
+    @Transactional
+    @Modifying
+    @Query("""
+        update Challenge c
+           set c.challengeLikeCnt = case when c.challengeLikeCnt + :delta < 0 then 0 else c.challengeLikeCnt + :delta end
+         where c.challengeId in :ids
+    """)
+    int addLikeCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
@@ -3,9 +3,14 @@ package org.example.challenge.repository;
 import org.example.challenge.entity.UserChallenge;
 import org.example.challenge.entity.UserChallengeRole;
 import org.example.challenge.entity.UserChallengeStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +34,71 @@ public interface UserChallengeRepository extends JpaRepository<UserChallenge, Lo
     List<Object[]> findUserRankingByCrew(Long crewId);
 
     boolean existsByUser_UserIdAndChallenge_ChallengeIdAndUserChallengeStatus(Long reviewerId, Long challengeId, UserChallengeStatus userChallengeStatus);
+
+    // 재참가: 진행 중이 아닌 행만 새 회차로 다시 연다 (동시 재참가 중 한 요청만 1 을 받음)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update UserChallenge uc
+           set uc.userChallengeStatus = org.example.challenge.entity.UserChallengeStatus.IN_PROGRESS,
+               uc.betAmount = :betAmount,
+               uc.progressDay = 0,
+               uc.startedAt = :startedAt,
+               uc.endsAt = :endsAt
+         where uc.userChallengeId = :userChallengeId
+           and uc.userChallengeStatus <> org.example.challenge.entity.UserChallengeStatus.IN_PROGRESS
+    """)
+    int reopen(@Param("userChallengeId") Long userChallengeId,
+               @Param("betAmount") long betAmount,
+               @Param("startedAt") LocalDateTime startedAt,
+               @Param("endsAt") LocalDateTime endsAt);
+
+    // 조건부 상태 전이: 현재 상태가 from 일 때만 to 로 (동시 정산/취소 중 한 쪽만 1 을 받음)
+    // 영속성 컨텍스트의 엔티티 상태는 갱신되지 않으므로 호출 후 changeStatus 로 덮어쓰지 말 것
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update UserChallenge uc
+           set uc.userChallengeStatus = :to
+         where uc.userChallengeId = :userChallengeId
+           and uc.userChallengeStatus = :from
+    """)
+    int transitionStatus(@Param("userChallengeId") Long userChallengeId,
+                         @Param("from") UserChallengeStatus from,
+                         @Param("to") UserChallengeStatus to);
+
+    // 인증 이미지가 속한 참가 기록 상태 일괄 변경 (일괄 거절 -> FAILED)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update UserChallenge uc
+           set uc.userChallengeStatus = :status
+         where uc.userChallengeId in (select vi.userChallenge.userChallengeId
+                                        from VerificationImage vi
+                                       where vi.certificationImageId in :imageIds)
+           and uc.userChallengeStatus = org.example.challenge.entity.UserChallengeStatus.IN_PROGRESS
+    """)
+    int updateStatusByVerificationImageIds(@Param("imageIds") Collection<Long> imageIds,
+                                           @Param("status") UserChallengeStatus status);
+
+    // 만료된 진행 중 참가 기록 id (keyset: endsAt, userChallengeId). 정산된 행은 IN_PROGRESS 에서 빠진다
+    @Query("""
+        select uc.userChallengeId, uc.endsAt
+          from UserChallenge uc
+         where uc.userChallengeStatus = org.example.challenge.entity.UserChallengeStatus.IN_PROGRESS
+           and uc.endsAt <= :now
+           and (:cursorEndsAt is null
+                or uc.endsAt > :cursorEndsAt
+                or (uc.endsAt = :cursorEndsAt and uc.userChallengeId > :cursorId))
+         order by uc.endsAt asc, uc.userChallengeId asc
+    """)
+    List<Object[]> findExpiredAfter(@Param("now") LocalDateTime now,
+                                    @Param("cursorEndsAt") LocalDateTime cursorEndsAt,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+
+    @Query("""
+        select uc
+          from UserChallenge uc
+          join fetch uc.challenge ch
+         where uc.userChallengeId in :ids
+    """)
+    List<UserChallenge> findAllWithChallengeByIds(@Param("ids") Collection<Long> ids);
 }
@@ -5,6 +5,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.community.dto.*;
+import org.example.general.CursorPageResponse;
 import org.example.user.UserService;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -119,19 +120,22 @@ public class CommunityController {
     }
 
     @GetMapping("/posts")
-    @Operation(summary = "전체 게시글 목록")
-    public ResponseEntity<List<PostSummaryResponse>> getAllPosts(
-            HttpServletRequest request
+    @Operation(summary = "전체 게시글 목록 (최신순, 커서 페이지)")
+    public ResponseEntity<CursorPageResponse<PostSummaryResponse>> getAllPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        return ResponseEntity.ok(communityService.getAllPosts());
+        return ResponseEntity.ok(communityService.getAllPosts(cursor, size));
     }
 
     @GetMapping("/crews/posts")
-    @Operation(summary = "크루별 게시글 조회 (최신순)")
-    public ResponseEntity<List<PostSummaryResponse>> getPostsByCrew(
-            @RequestParam(required = false) Long crewId
+    @Operation(summary = "크루별 게시글 조회 (최신순, 커서 페이지)", description = "crewId 없으면 크루 없는 게시글만 조회")
+    public ResponseEntity<CursorPageResponse<PostSummaryResponse>> getPostsByCrew(
+            @RequestParam(required = false) Long crewId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        return ResponseEntity.ok(communityService.getPostsByCrew(crewId));
+        return ResponseEntity.ok(communityService.getPostsByCrew(crewId, cursor, size));
     }
 
     @GetMapping("/posts/popular")
@@ -143,14 +147,20 @@ public class CommunityController {
     }
 
     @GetMapping("/posts/search")
-    @Operation(summary = "게시글 검색(최신순, 페이징 없음)",
-            description = "postTitle 또는 postContent에 키워드가 포함된 게시글을 postId DESC로 정렬해 반환")
-    public ResponseEntity<List<PostSummaryResponse>> searchPostsLatest(@RequestParam(required = false) Long crewId, @RequestParam String query) {
-        return ResponseEntity.ok(communityService.searchPostsLatest(query, crewId));
+    @Operation(summary = "게시글 검색(관련도순, 커서 페이지)",
+            description = "postTitle 또는 postContent에 키워드(2글자 단위 n-gram)가 포함된 게시글을 관련도순(동점이면 최신순)으로 반환. "
+                    + "최근 색인된 매칭 게시글 최대 10,000건 안에서의 순위이며 그보다 오래된 매칭 결과는 반환하지 않음")
+    public ResponseEntity<CursorPageResponse<PostSummaryResponse>> searchPosts(
+            @RequestParam(required = false) Long crewId,
+            @RequestParam String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(communityService.searchPosts(query, crewId, cursor, size));
     }
 
     @GetMapping("/posts/{postId}")
-    @Operation(summary = "게시글 상세 (이미지 + 댓글)")
+    @Operation(summary = "게시글 상세 (이미지 + 댓글 첫 페이지)")
     public ResponseEntity<PostDetailResponse> getPostDetail(
             HttpServletRequest request,
             @PathVariable Long postId
@@ -159,6 +169,30 @@ public class CommunityController {
         return ResponseEntity.ok(communityService.getPostDetail(userId, postId));
     }
 
+    @GetMapping("/posts/{postId}/comments")
+    @Operation(summary = "루트 댓글 목록 (커서 페이지)", description = "루트 댓글마다 앞쪽 답글 3개와 전체 답글 수(replyCount)를 함께 반환")
+    public ResponseEntity<CursorPageResponse<CommentTreeResponse>> getRootComments(
+            HttpServletRequest request,
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long userId = userService.getUserIdFromToken(request);
+        return ResponseEntity.ok(communityService.getRootComments(userId, postId, cursor, size));
+    }
+
+    @GetMapping("/comments/{commentId}/replies")
+    @Operation(summary = "답글 목록 (커서 페이지)")
+    public ResponseEntity<CursorPageResponse<CommentTreeResponse>> getReplies(
+            HttpServletRequest request,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long userId = userService.getUserIdFromToken(request);
+        return ResponseEntity.ok(communityService.getReplies(userId, commentId, cursor, size));
+    }
+
     @PostMapping("/posts/{postId}/like")
     @Operation(summary = "게시글 좋아요 토글")
     public ResponseEntity<PostLikeResponse> togglePostLike(
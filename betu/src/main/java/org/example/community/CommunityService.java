@@ -12,11 +12,22 @@ import org.example.crew.repository.CrewRepository;
 import org.example.crew.repository.UserCrewRepository;
 import org.example.user.User;
 import org.example.user.UserRepository;
+import org.example.general.CursorCodec;
+import org.example.general.CursorPageResponse;
+import org.example.general.PagingPolicy;
 import org.example.general.S3Uploader;
+import org.example.general.UploadedImage;
+import org.example.like.LikeCounterService;
+import org.example.like.LikeTarget;
+import org.example.search.SearchHits;
+import org.example.search.SearchIndexService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -28,6 +39,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommunityService {
 
+    private static final int REPLY_PREVIEW_SIZE = 3; // 루트 댓글당 미리보기 답글 수
+
     private final PostRepository postRepository;
     private final PostImageRepository postImageRepository;
     private final CommentRepository commentRepository;
@@ -38,41 +51,45 @@ public class CommunityService {
     private final PostReportRepository postReportRepository;
     private final UserCrewRepository userCrewRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final SearchIndexService searchIndexService;
+    private final PagingPolicy pagingPolicy;
+    private final LikeCounterService likeCounterService;
+    private final TransactionTemplate transactionTemplate;
 
     // 게시글 작성
-    @Transactional
+    // 이미지는 트랜잭션 밖에서 병렬 업로드, 게시글/이미지 행은 업로드가 끝난 뒤 짧은 트랜잭션 하나로 저장
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createPost(Long userId, PostCreateRequest req, List<MultipartFile> images) throws IOException {
         User author = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
-        Crew crew = null;
-        if (req.getCrewId() != null) {
-            crew = crewRepository.findById(req.getCrewId())
-                    .orElseThrow(() -> new EntityNotFoundException("그룹 없음"));
-        }
+        Crew crew = req.getCrewId() == null
+                ? null
+                : crewRepository.findById(req.getCrewId())
+                        .orElseThrow(() -> new EntityNotFoundException("그룹 없음"));
 
-        LocalDateTime now = LocalDateTime.now();
-        Post post = new Post(null, crew, author, req.getTitle(), req.getContent(), 0, now);
-        Post saved = postRepository.save(post);
+        Long crewIdValue = (crew != null) ? crew.getCrewId() : 0L;
+        List<UploadedImage> uploaded = s3Uploader.uploadAll(images, String.format("crew/%d/post", crewIdValue));
 
-        // 이미지 업로드
-        if (images != null && !images.isEmpty()) {
-            int order = 0;
-            for (MultipartFile file : images) {
-                Long crewIdValue = (crew != null) ? crew.getCrewId() : 0L;
-                String prefix = String.format("crew/%d/post/%d", crewIdValue, saved.getPostId());
-                String url = s3Uploader.uploadImageUnderPrefix(file, prefix);
+        return transactionTemplate.execute(status -> {
+            Post saved = postRepository.save(
+                    new Post(null, crew, author, req.getTitle(), req.getContent(), 0, LocalDateTime.now()));
 
-                PostImage pi = PostImage.builder()
+            int order = 0;
+            for (UploadedImage image : uploaded) {
+                postImageRepository.save(PostImage.builder()
                         .post(saved)
-                        .imageUrl(url)
+                        .imageUrl(image.getImageUrl())
+                        .mediumUrl(image.getMediumUrl())
+                        .thumbnailUrl(image.getThumbnailUrl())
                         .sortOrder(order)
                         .isThumbnail(order == 0)
-                        .build();
-                postImageRepository.save(pi);
+                        .build());
                 order++;
             }
-        }
-        return saved.getPostId();
+            s3Uploader.registerAfterCommit(uploaded);
+            searchIndexService.indexPost(saved);
+            return saved.getPostId();
+        });
     }
 
     // 게시글 수정 -> 추후 수정 예정 (이미지까지)
@@ -86,6 +103,7 @@ public class CommunityService {
 
         Post updated = new Post(post.getPostId(), post.getCrew(), post.getUser(), req.getTitle(), req.getContent(), 0, post.getPostCreatedAt());
         postRepository.save(updated);
+        searchIndexService.indexPost(updated);
     }
 
     // 게시글 삭제
@@ -98,33 +116,37 @@ public class CommunityService {
 
         postImageRepository.deleteByPost_PostId(postId);
         commentRepository.deleteByPost_PostId(postId);
-        postLikeRepository.deleteByUserIdAndPostId(userId, postId); // 내 좋아요만 삭제 X
         postLikeRepository.deleteByPostId(postId);
         postRepository.deleteById(postId);
+        searchIndexService.removePost(postId);
     }
 
-    // 전체 게시글 조회
+    // 전체 게시글 조회 (keyset 페이지: 요청당 메모리는 페이지 크기에 비례)
     @Transactional(readOnly = true)
-    public List<PostSummaryResponse> getAllPosts() {
-        List<Post> posts = postRepository.findAllByOrderByPostIdDesc();
-
-        return toPostSummaryResponses(posts);
+    public CursorPageResponse<PostSummaryResponse> getAllPosts(String cursor, Integer size) {
+        int pageSize = pagingPolicy.resolve(size);
+        long[] key = CursorCodec.decode(cursor, 1);
+        List<PostSummaryRow> rows = postRepository.findFeedPage(
+                key == null ? null : key[0], PageRequest.of(0, pageSize + 1));
+        return toFeedPage(rows, pageSize);
     }
 
-    // 크루별 게시글 목록
+    // 크루별 게시글 목록 (crewId 없으면 crew == null 인 게시글)
     @Transactional(readOnly = true)
-    public List<PostSummaryResponse> getPostsByCrew(Long crewId) {
-        List<Post> posts;
-
-        if (crewId == null) {
-            // crewId 없으면 crew == null인 게시글 전체 조회
-            posts = postRepository.findByCrewIsNullOrderByPostIdDesc();
-        } else {
-            // crewId 있으면 해당 crew 게시글 전체 조회
-            posts = postRepository.findByCrew_CrewIdOrderByPostIdDesc(crewId);
-        }
+    public CursorPageResponse<PostSummaryResponse> getPostsByCrew(Long crewId, String cursor, Integer size) {
+        int pageSize = pagingPolicy.resolve(size);
+        long[] key = CursorCodec.decode(cursor, 1);
+        List<PostSummaryRow> rows = postRepository.findCrewFeedPage(
+                crewId, key == null ? null : key[0], PageRequest.of(0, pageSize + 1));
+        return toFeedPage(rows, pageSize);
+    }
 
-        return toPostSummaryResponses(posts);
+    // pageSize + 1 건 조회 결과 → 페이지 + 다음 커서(마지막 postId)
+    private CursorPageResponse<PostSummaryResponse> toFeedPage(List<PostSummaryRow> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSummaryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).getPostId()) : null;
+        return CursorPageResponse.of(page.stream().map(PostSummaryRow::toResponse).toList(), nextCursor);
     }
 
     @Transactional(readOnly = true)
@@ -135,12 +157,27 @@ public class CommunityService {
         return toPostSummaryResponses(posts);
     }
 
+    // 게시글 검색: 역색인에서 관련도 순(동점이면 최신순) id 를 받아 해당 게시글만 조회
+    // 커서 = 이전 페이지 마지막 결과의 (점수, postId)
     @Transactional(readOnly = true)
-    public List<PostSummaryResponse> searchPostsLatest(String query, Long crewId) {
-        if (query == null || query.isBlank()) return List.of();
-        return toPostSummaryResponses(
-                postRepository.searchLatestByKeyword(crewId, query.trim())
-        );
+    public CursorPageResponse<PostSummaryResponse> searchPosts(String query, Long crewId, String cursor, Integer size) {
+        if (query == null || query.isBlank()) return CursorPageResponse.empty();
+
+        int pageSize = pagingPolicy.resolve(size);
+        long[] key = CursorCodec.decode(cursor, 2);
+
+        SearchHits hits = searchIndexService.searchPosts(query.trim(), crewId, key, pageSize);
+        if (hits.getIds().isEmpty()) return CursorPageResponse.empty();
+
+        Map<Long, Post> byId = postRepository.findAllById(hits.getIds()).stream()
+                .collect(Collectors.toMap(Post::getPostId, p -> p));
+        List<Post> ranked = hits.getIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hits.isHasNext() ? CursorCodec.encode(hits.getLastScore(), hits.getLastId()) : null;
+        return CursorPageResponse.of(toPostSummaryResponses(ranked), nextCursor);
     }
 
     @Transactional(readOnly = true)
@@ -152,18 +189,9 @@ public class CommunityService {
         List<PostImage> images = postImageRepository.findByPost_PostIdOrderBySortOrderAsc(postId);
         List<String> imageUrls = images.stream().map(PostImage::getImageUrl).toList();
 
-        // 댓글 전체 로드 (user, parent 포함 - @EntityGraph로 N+1 회피)
-        List<Comment> all = commentRepository.findByPost_PostIdOrderByCommentIdAsc(postId);
-
-        // 내가 좋아요 누른 댓글 id를 한 번에 조회
-        Set<Long> likedSet = Collections.emptySet();
-        if (userId != null && !all.isEmpty()) {
-            List<Long> ids = all.stream().map(Comment::getCommentId).toList();
-            likedSet = new HashSet<>(commentLikeRepository.findLikedCommentIdsByUser(userId, ids));
-        }
-
-        // 트리 변환(좋아요 카운트/likedByMe 반영)
-        List<CommentTreeResponse> commentTree = buildCommentTree(all, likedSet);
+        // 댓글은 루트 첫 페이지 + 루트별 답글 미리보기만 (나머지는 커서로 추가 조회)
+        CursorPageResponse<CommentTreeResponse> comments =
+                loadRootComments(userId, postId, null, pagingPolicy.resolve(null));
 
         boolean liked = postLikeRepository.existsByUserIdAndPostId(userId, postId);
 
@@ -176,39 +204,101 @@ public class CommunityService {
                 post.getPostContent(),
                 post.getPostLikeCnt(),
                 imageUrls,
-                commentTree,
-                liked
+                comments.getItems(),
+                liked,
+                comments.getNextCursor()
         );
     }
 
-    private List<CommentTreeResponse> buildCommentTree(List<Comment> all, Set<Long> likedSet) {
-        // 1) commentId -> DTO 미리 생성 (삭제/likedByMe 반영)
-        Map<Long, CommentTreeResponse> dtoMap = new LinkedHashMap<>();
-        for (Comment c : all) {
-            boolean likedByMe = likedSet != null && likedSet.contains(c.getCommentId());
-            dtoMap.put(c.getCommentId(), CommentTreeResponse.of(c, likedByMe));
+    // 루트 댓글 페이지 (루트별 답글 미리보기 포함)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentTreeResponse> getRootComments(Long userId, Long postId, String cursor, Integer size) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("게시글이 없습니다.");
         }
+        long[] key = CursorCodec.decode(cursor, 1);
+        return loadRootComments(userId, postId, key == null ? null : key[0], pagingPolicy.resolve(size));
+    }
 
-        // 2) 루트 모으기 + 부모-자식 연결
-        List<CommentTreeResponse> roots = new ArrayList<>();
-        for (Comment c : all) {
-            CommentTreeResponse dto = dtoMap.get(c.getCommentId());
-            if (c.getParent() == null) {
-                // 루트 댓글
-                roots.add(dto);
-            } else {
-                // 부모가 있으면 부모 DTO의 replies에 추가
-                Comment parent = c.getParent();
-                CommentTreeResponse parentDto = dtoMap.get(parent.getCommentId());
-                if (parentDto != null) {
-                    parentDto.getReplies().add(dto);      // 또는 parentDto.addReply(dto);
-                } else {
-                    // 데이터 무결성 방어: 부모 DTO가 없으면 루트로라도 노출
-                    roots.add(dto);
-                }
-            }
+    // 특정 댓글의 답글 페이지
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentTreeResponse> getReplies(Long userId, Long commentId, String cursor, Integer size) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new EntityNotFoundException("댓글 없음");
         }
-        return roots;
+        int pageSize = pagingPolicy.resolve(size);
+        long[] key = CursorCodec.decode(cursor, 1);
+
+        List<Comment> rows = commentRepository.findReplyPage(
+                commentId, key == null ? null : key[0], PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<Comment> replies = hasNext ? rows.subList(0, pageSize) : rows;
+        if (replies.isEmpty()) return CursorPageResponse.empty();
+
+        List<Long> ids = replies.stream().map(Comment::getCommentId).toList();
+        Map<Long, Long> replyCounts = countReplies(ids);
+        Set<Long> likedSet = findLikedCommentIds(userId, ids);
+
+        List<CommentTreeResponse> items = replies.stream()
+                .map(c -> CommentTreeResponse.of(c, likedSet.contains(c.getCommentId()),
+                        replyCounts.getOrDefault(c.getCommentId(), 0L)))
+                .toList();
+        String nextCursor = hasNext ? CursorCodec.encode(ids.get(ids.size() - 1)) : null;
+        return CursorPageResponse.of(items, nextCursor);
+    }
+
+    // 쿼리 수는 스레드 크기와 무관하게 고정: 루트 페이지 / 미리보기 id / 미리보기 본문 / 답글 수 / 좋아요 여부
+    private CursorPageResponse<CommentTreeResponse> loadRootComments(Long userId, Long postId, Long cursorId, int pageSize) {
+        List<Comment> rows = commentRepository.findRootPage(postId, cursorId, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<Comment> roots = hasNext ? rows.subList(0, pageSize) : rows;
+        if (roots.isEmpty()) return CursorPageResponse.empty();
+
+        List<Long> rootIds = roots.stream().map(Comment::getCommentId).toList();
+
+        // 루트별 앞쪽 답글 미리보기
+        List<Long> previewIds = commentRepository.findReplyPreviewIds(rootIds, REPLY_PREVIEW_SIZE).stream()
+                .map(Number::longValue)
+                .toList();
+        List<Comment> previews = previewIds.isEmpty()
+                ? List.of()
+                : commentRepository.findByCommentIdInOrderByCommentIdAsc(previewIds);
+
+        // 답글 수 / 내가 좋아요 누른 댓글: 페이지에 보이는 댓글 전체를 한 번에
+        List<Long> visibleIds = new ArrayList<>(rootIds);
+        visibleIds.addAll(previewIds);
+        Map<Long, Long> replyCounts = countReplies(visibleIds);
+        Set<Long> likedSet = findLikedCommentIds(userId, visibleIds);
+
+        Map<Long, CommentTreeResponse> rootDtos = new LinkedHashMap<>();
+        for (Comment c : roots) {
+            rootDtos.put(c.getCommentId(), CommentTreeResponse.of(c, likedSet.contains(c.getCommentId()),
+                    replyCounts.getOrDefault(c.getCommentId(), 0L)));
+        }
+        for (Comment reply : previews) {
+            CommentTreeResponse parentDto = rootDtos.get(reply.getParent().getCommentId());
+            if (parentDto == null) continue;
+            parentDto.getReplies().add(CommentTreeResponse.of(reply, likedSet.contains(reply.getCommentId()),
+                    replyCounts.getOrDefault(reply.getCommentId(), 0L)));
+        }
+
+        String nextCursor = hasNext ? CursorCodec.encode(rootIds.get(rootIds.size() - 1)) : null;
+        return CursorPageResponse.of(new ArrayList<>(rootDtos.values()), nextCursor);
+    }
+
+    // commentId -> 답글 수
+    private Map<Long, Long> countReplies(List<Long> commentIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : commentRepository.countRepliesByParentIds(commentIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // 내가 좋아요 누른 댓글 id (단일 쿼리)
+    private Set<Long> findLikedCommentIds(Long userId, List<Long> commentIds) {
+        if (userId == null || commentIds.isEmpty()) return Collections.emptySet();
+        return new HashSet<>(commentLikeRepository.findLikedCommentIdsByUser(userId, commentIds));
     }
 
     // 게시글 좋아요
@@ -216,18 +306,17 @@ public class CommunityService {
     public PostLikeResponse togglePostLike(Long userId, Long postId) {
         var post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다."));
-        boolean exists = postLikeRepository.existsByUserIdAndPostId(userId, postId);
-
-        if (exists) {
-            postLikeRepository.deleteByUserIdAndPostId(userId, postId);
-            post.decreaseLike();
-        } else {
-            var user = userRepository.getReferenceById(userId);
-            postLikeRepository.save(new PostLike(userId, postId));
-            post.increaseLike();
+
+        // 좋아요 행만 저장/삭제하고 postLikeCnt 는 LikeCounterService 가 모아서 반영 (게시글 행 update 없음)
+        boolean liked = postLikeRepository.deleteLike(userId, postId) == 0;
+        // 동시에 들어온 첫 좋아요는 한 요청만 행을 추가, 나머지는 이미 좋아요 상태로 응답하고 카운트하지 않음
+        int delta = liked ? postLikeRepository.insertLike(userId, postId) : -1;
+        if (delta != 0) {
+            likeCounterService.record(LikeTarget.POST, postId, delta);
         }
 
-        return new PostLikeResponse(!exists, post.getPostLikeCnt());
+        return new PostLikeResponse(liked,
+                likeCounterService.currentCount(LikeTarget.POST, postId, post.getPostLikeCnt() + delta));
     }
 
 
@@ -292,21 +381,17 @@ public class CommunityService {
     public Map<String, Object> toggleCommentLike(Long userId, Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("댓글 없음"));
-        User user = userRepository.getReferenceById(userId);
-
-        boolean exists = commentLikeRepository.existsByUser_UserIdAndComment_CommentId(userId, commentId);
 
-        if (exists) {
-            commentLikeRepository.deleteByUser_UserIdAndComment_CommentId(userId, commentId);
-            comment.decreaseLike();
-        } else {
-            commentLikeRepository.save(new CommentLike(comment, user));
-            comment.increaseLike();
+        // 좋아요 행만 저장/삭제하고 likeCount 는 LikeCounterService 가 모아서 반영
+        boolean liked = commentLikeRepository.deleteLike(userId, commentId) == 0;
+        int delta = liked ? commentLikeRepository.insertLike(userId, commentId) : -1;
+        if (delta != 0) {
+            likeCounterService.record(LikeTarget.COMMENT, commentId, delta);
         }
 
         Map<String, Object> res = new HashMap<>();
-        res.put("liked", !exists);
-        res.put("likeCount", comment.getLikeCount());
+        res.put("liked", liked);
+        res.put("likeCount", likeCounterService.currentCount(LikeTarget.COMMENT, commentId, comment.getLikeCount() + delta));
         return res;
     }
 
@@ -370,6 +455,7 @@ public class CommunityService {
         postLikeRepository.deleteByPostId(post.getPostId());
 
         postRepository.delete(post);
+        searchIndexService.removePost(post.getPostId());
     }
 
     /** 신고 기각 */
@@ -407,15 +493,18 @@ public class CommunityService {
     }
 
     private List<PostSummaryResponse> toPostSummaryResponses(List<Post> posts) {
+        if (posts.isEmpty()) return List.of();
+
+        // 댓글 개수 + 썸네일(첫 번째 이미지)을 게시글 수와 무관하게 한 번의 쿼리로 집계
+        List<Long> postIds = posts.stream().map(Post::getPostId).toList();
+        Map<Long, PostSummaryStats> statsById = postRepository.findSummaryStatsByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryStats::getPostId, st -> st));
+
         return posts.stream()
                 .map(p -> {
-                    // 썸네일(첫 번째 이미지)
-                    List<PostImage> images = postImageRepository
-                            .findByPost_PostIdOrderBySortOrderAsc(p.getPostId());
-                    String thumbnail = images.isEmpty() ? null : images.get(0).getImageUrl();
-
-                    // 댓글 개수
-                    int commentCount = commentRepository.findByPost_PostId(p.getPostId()).size();
+                    PostSummaryStats stats = statsById.get(p.getPostId());
+                    String thumbnail = stats != null ? stats.getThumbnailUrl() : null;
+                    int commentCount = stats != null ? stats.getCommentCount().intValue() : 0;
 
                     // 프리뷰(최대 120자)
                     String previewContent = preview(p.getPostContent(), 120);
@@ -24,11 +24,12 @@ public class CommentTreeResponse {
     private boolean likedByMe;     // 현재 사용자 기준
     private boolean deleted;       // ✅ 소프트 삭제 플래그 노출
     private LocalDateTime createdAt;
+    private long replyCount;       // 전체 답글 수 (replies 는 미리보기/페이지 일부)
 
     @Builder.Default
     private List<CommentTreeResponse> replies = new ArrayList<>();
 
-    public static CommentTreeResponse of(Comment c, boolean likedByMe) {
+    public static CommentTreeResponse of(Comment c, boolean likedByMe, long replyCount) {
         boolean isDeleted = c.isDeleted();
         String content = isDeleted ? "(삭제된 댓글입니다)" : c.getCommentContent();
 
@@ -41,6 +42,7 @@ public class CommentTreeResponse {
                 .likedByMe(likedByMe)
                 .deleted(isDeleted)
                 .createdAt(c.getCreatedAt())
+                .replyCount(replyCount)
                 .build();
     }
 }
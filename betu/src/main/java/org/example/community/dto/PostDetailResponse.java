@@ -16,7 +16,9 @@ public class PostDetailResponse {
     private String postContent;
     private int postLikeCnt;
     private List<String> imageUrls;
-    private List<CommentTreeResponse> commentTree;
+    private List<CommentTreeResponse> commentTree;   // 루트 댓글 첫 페이지 (+ 루트별 답글 미리보기)
 
     private boolean liked;
+
+    private String commentNextCursor;                // 다음 루트 댓글 페이지 커서 (없으면 null)
 }
@@ -0,0 +1,36 @@
+package org.example.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 피드 목록 조회용 생성자 프로젝션.
+ * 본문(@Lob) 전체 대신 SQL 에서 잘라낸 미리보기만 가져온다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryRow {
+    private Long postId;
+    private Long crewId;
+    private Long authorId;
+    private String authorName;
+    private String title;
+    private String preview;
+    private Integer likeCount;
+    private Long commentCount;
+    private String thumbnailUrl;
+
+    public PostSummaryResponse toResponse() {
+        return new PostSummaryResponse(
+                postId,
+                crewId,
+                authorId,
+                authorName,
+                title,
+                preview == null ? "" : preview,
+                likeCount,
+                commentCount == null ? 0 : commentCount.intValue(),
+                thumbnailUrl
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 게시글 목록 집계 프로젝션: 댓글 수 + 첫 번째 이미지 URL */
+@Getter
+@AllArgsConstructor
+public class PostSummaryStats {
+    private Long postId;
+    private Long commentCount;
+    private String thumbnailUrl;   // 없으면 null
+}
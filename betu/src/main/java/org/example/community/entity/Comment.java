@@ -16,6 +16,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 게시글별 루트 댓글 페이지 (post, parent is null, commentId asc)
+        @Index(name = "idx_comment_post_parent_id", columnList = "postId, parent_id, commentId")
+})
 public class Comment {
 
     @Id
@@ -42,16 +46,15 @@ public class Comment {
 
     private LocalDateTime createdAt;
 
+    // LikeCounterService 로만 변경
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int likeCount = 0;
 
     @Builder.Default
     @Column(nullable = false)
     private boolean isDeleted = false;
 
-    public void increaseLike() { this.likeCount++; }
-    public void decreaseLike() { if (this.likeCount > 0) this.likeCount--; }
 
     public void addChild(Comment child) {
         children.add(child);
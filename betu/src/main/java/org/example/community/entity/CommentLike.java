@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_comment_like_user_comment", columnNames = {"user_id", "comment_id"}))
 public class CommentLike {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,12 +33,10 @@ public class Post {
     @Lob
     private String postContent;
 
-    @Column(nullable = false)
+    // LikeCounterService 로만 변경
+    @Column(nullable = false, updatable = false)
     private int postLikeCnt = 0;
 
     private LocalDateTime postCreatedAt;
 
-    public void increaseLike() { this.postLikeCnt++; }
-    public void decreaseLike() { if (this.postLikeCnt > 0) this.postLikeCnt--; }
-
 }
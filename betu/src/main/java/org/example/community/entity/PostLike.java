@@ -10,6 +10,7 @@ import org.example.user.User;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_post_like_user_post", columnNames = {"user_id", "post_id"}))
 public class PostLike {
 
     @Id
@@ -2,7 +2,9 @@ package org.example.community.repository;
 
 import org.example.community.entity.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -11,7 +13,17 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
 
     boolean existsByUser_UserIdAndComment_CommentId(Long userId, Long commentId);
 
-    void deleteByUser_UserIdAndComment_CommentId(Long userId, Long commentId);
+    @Modifying
+    @Query("delete from CommentLike cl where cl.user.userId = :userId and cl.comment.commentId = :commentId")
+    int deleteLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 이미 좋아요면 0 (@PrePersist 를 거치지 않으므로 created_at 을 직접 채움)
+    @Modifying
+    @Query(value = """
+        insert ignore into comment_like (comment_id, user_id, created_at)
+        values (:commentId, :userId, current_timestamp)
+    """, nativeQuery = true)
+    int insertLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
 
     long countByComment_CommentId(Long commentId);
 
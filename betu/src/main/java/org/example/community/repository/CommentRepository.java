@@ -6,7 +6,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -15,6 +20,66 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPost_PostId(Long postId);
     void deleteByPost_PostId(Long postId);
 
-    @EntityGraph(attributePaths = {"user", "parent"})
-    List<Comment> findByPost_PostIdOrderByCommentIdAsc(Long postId);
+    // ===== 댓글 keyset 페이지 (commentId asc, 커서 = 마지막 commentId) =====
+
+    // 게시글의 루트 댓글
+    @EntityGraph(attributePaths = {"user"})
+    @Query("""
+        select c
+          from Comment c
+         where c.post.postId = :postId
+           and c.parent is null
+           and (:cursorId is null or c.commentId > :cursorId)
+         order by c.commentId asc
+    """)
+    List<Comment> findRootPage(@Param("postId") Long postId,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
+    // 특정 댓글의 답글
+    @EntityGraph(attributePaths = {"user"})
+    @Query("""
+        select c
+          from Comment c
+         where c.parent.commentId = :parentId
+           and (:cursorId is null or c.commentId > :cursorId)
+         order by c.commentId asc
+    """)
+    List<Comment> findReplyPage(@Param("parentId") Long parentId,
+                                @Param("cursorId") Long cursorId,
+                                Pageable pageable);
+
+    // 부모 댓글별 앞쪽 :limit 개 답글 id (부모 여러 개를 한 번에, 부모별 전체 답글은 읽지 않음)
+    @Query(value = """
+        select t.comment_id
+          from (select c.comment_id,
+                       row_number() over (partition by c.parent_id order by c.comment_id) as rn
+                  from comment c
+                 where c.parent_id in (:parentIds)) t
+         where t.rn <= :limit
+    """, nativeQuery = true)
+    List<Number> findReplyPreviewIds(@Param("parentIds") Collection<Long> parentIds,
+                                     @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = {"user"})
+    List<Comment> findByCommentIdInOrderByCommentIdAsc(Collection<Long> commentIds);
+
+    // 부모 댓글별 답글 수: [parentId, count]
+    @Query("""
+        select c.parent.commentId, count(c)
+          from Comment c
+         where c.parent.commentId in :parentIds
+         group by c.parent.commentId
+    """)
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    // LikeCounterService 전용
+    @Transactional
+    @Modifying
+    @Query("""
+        update Comment c
+           set c.likeCount = case when c.likeCount + :delta < 0 then 0 else c.likeCount + :delta end
+         where c.commentId in :ids
+    """)
+    int addLikeCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
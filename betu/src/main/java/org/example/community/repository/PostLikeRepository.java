@@ -2,9 +2,21 @@ package org.example.community.repository;
 
 import org.example.community.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByUserIdAndPostId(Long userId, Long postId);
-    void deleteByUserIdAndPostId(Long userId, Long postId);
     void deleteByPostId(Long postId);
+
+    // 삭제된 행 수
+    @Modifying
+    @Query("delete from PostLike pl where pl.userId = :userId and pl.postId = :postId")
+    int deleteLike(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 추가된 행 수 (이미 좋아요면 0)
+    @Modifying
+    @Query(value = "insert ignore into post_like (user_id, post_id) values (:userId, :postId)", nativeQuery = true)
+    int insertLike(@Param("userId") Long userId, @Param("postId") Long postId);
 }
@@ -1,37 +1,103 @@
 package org.example.community.repository;
 
+import org.example.community.dto.PostSummaryRow;
+import org.example.community.dto.PostSummaryStats;
 import org.example.community.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findByCrew_CrewIdOrderByPostIdDesc(Long crewId);
-    List<Post> findByCrewIsNullOrderByPostIdDesc(); // crewId가 null인 경우
+    // ===== 피드 keyset 페이지 (postId desc, 커서 = 마지막 postId) =====
+    // 미리보기는 SQL 에서 120자로 잘라 가져오고, 댓글 수/썸네일도 같은 쿼리에서 집계
 
-    List<Post> findAllByOrderByPostIdDesc();
+    @Query("""
+        select new org.example.community.dto.PostSummaryRow(
+               p.postId, c.crewId, u.userId, u.userName, p.postTitle,
+               case when length(cast(p.postContent as string)) > 120
+                    then concat(substring(cast(p.postContent as string), 1, 120), '...')
+                    else cast(p.postContent as string) end,
+               p.postLikeCnt,
+               (select count(cm) from Comment cm where cm.post = p),
+               (select min(coalesce(pi.thumbnailUrl, pi.imageUrl))
+                  from PostImage pi
+                 where pi.post = p
+                   and pi.sortOrder = (select min(pi2.sortOrder) from PostImage pi2 where pi2.post = p)))
+          from Post p
+          join p.user u
+          left join p.crew c
+         where (:cursorId is null or p.postId < :cursorId)
+         order by p.postId desc
+    """)
+    List<PostSummaryRow> findFeedPage(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    // crewId 가 null 이면 crew 없는 게시글, 있으면 해당 crew 게시글
+    @Query("""
+        select new org.example.community.dto.PostSummaryRow(
+               p.postId, c.crewId, u.userId, u.userName, p.postTitle,
+               case when length(cast(p.postContent as string)) > 120
+                    then concat(substring(cast(p.postContent as string), 1, 120), '...')
+                    else cast(p.postContent as string) end,
+               p.postLikeCnt,
+               (select count(cm) from Comment cm where cm.post = p),
+               (select min(coalesce(pi.thumbnailUrl, pi.imageUrl))
+                  from PostImage pi
+                 where pi.post = p
+                   and pi.sortOrder = (select min(pi2.sortOrder) from PostImage pi2 where pi2.post = p)))
+          from Post p
+          join p.user u
+          left join p.crew c
+         where ((:crewId is null and p.crew is null)
+             or (:crewId is not null and c.crewId = :crewId))
+           and (:cursorId is null or p.postId < :cursorId)
+         order by p.postId desc
+    """)
+    List<PostSummaryRow> findCrewFeedPage(@Param("crewId") Long crewId,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
 
     List<Post> findByCrew_CrewIdAndPostLikeCntGreaterThanEqualOrderByPostIdDesc(Long crewId, int minLike);
 
     List<Post> findByCrewIsNullAndPostLikeCntGreaterThanEqualOrderByPostIdDesc(int minLike);
 
+    // 검색 색인 구축용: [postId, crewId, postTitle, postContent]
+    @Query("""
+        select p.postId, c.crewId, p.postTitle, p.postContent
+          from Post p
+          left join p.crew c
+         where p.postId > :lastId
+         order by p.postId asc
+    """)
+    List<Object[]> findIndexSourceAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 게시글 목록의 댓글 수 / 썸네일(sortOrder 최소 이미지)을 한 번에 집계
+    @Query("""
+        select new org.example.community.dto.PostSummaryStats(
+               p.postId,
+               (select count(c) from Comment c where c.post = p),
+               (select min(coalesce(pi.thumbnailUrl, pi.imageUrl))
+                  from PostImage pi
+                 where pi.post = p
+                   and pi.sortOrder = (select min(pi2.sortOrder) from PostImage pi2 where pi2.post = p)))
+          from Post p
+         where p.postId in :postIds
+    """)
+    List<PostSummaryStats> findSummaryStatsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // LikeCounterService 전용
+    @Transactional
+    @Modifying
     @Query("""
-       SELECT p
-         FROM Post p
-        WHERE (
-                (:crewId IS NULL AND p.crew IS NULL)  
-             OR (:crewId IS NOT NULL AND p.crew.crewId = :crewId) 
-              )
-          AND (
-               lower(cast(p.postTitle as string)) LIKE lower(concat('%', :q, '%'))
-            OR lower(cast(p.postContent as string)) LIKE lower(concat('%', :q, '%'))
-          )
-        ORDER BY p.postId DESC
+        update Post p
+           set p.postLikeCnt = case when p.postLikeCnt + :delta < 0 then 0 else p.postLikeCnt + :delta end
+         where p.postId in :ids
     """)
-    List<Post> searchLatestByKeyword(@Param("crewId") Long crewId,
-                                     @Param("q") String keyword);
+    int addLikeCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
@@ -25,6 +25,7 @@ import java.util.List;
 public class CrewController {
 
     private final CrewService crewService;
+    private final CrewLeaderboardService crewLeaderboardService;
     private final UserService userService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -80,9 +81,23 @@ public class CrewController {
 
 
     @GetMapping("/{crewId}/ranking")
-    @Operation(summary = "크루 내 랭킹", description = "크루에서 챌린지를 가장 많이 한 사람 순으로 반환")
-    public ResponseEntity<List<CrewRankingResponse>> getCrewRanking(@PathVariable Long crewId) {
-        return ResponseEntity.ok(crewService.getCrewRanking(crewId));
+    @Operation(summary = "크루 내 랭킹", description = "크루에서 챌린지를 가장 많이 한 사람 순으로 반환 (page 는 0부터)")
+    public ResponseEntity<List<CrewRankingResponse>> getCrewRanking(
+            @PathVariable Long crewId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(crewLeaderboardService.getRanking(crewId, page, size));
+    }
+
+    @GetMapping("/{crewId}/ranking/me")
+    @Operation(summary = "크루 내 내 순위")
+    public ResponseEntity<CrewRankingResponse> getMyCrewRank(
+            HttpServletRequest request,
+            @PathVariable Long crewId
+    ) {
+        Long userId = userService.getUserIdFromToken(request);
+        return ResponseEntity.ok(crewLeaderboardService.getMyRank(crewId, userId));
     }
 
     // 특정 그룹 상세 조회
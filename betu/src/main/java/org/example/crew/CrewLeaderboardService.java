@@ -0,0 +1,201 @@
+package org.example.crew;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.challenge.repository.UserChallengeRepository;
+import org.example.crew.dto.CrewRankingResponse;
+import org.example.general.PagingPolicy;
+import org.example.general.TransactionHooks;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 크루 랭킹 (크루 챌린지 참여 수 기준) 을 Redis sorted set 으로 유지.
+ * 최초 조회 시 DB GROUP BY 로 한 번 채우고, 이후에는 UserChallenge 생성 시 증분 반영한다.
+ * 페이지 조회 / 내 순위 조회는 O(log n).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewLeaderboardService {
+
+    private static final String KEY_PREFIX = "crew:leaderboard:";
+    // 증분 누락이 있어도 하루 안에는 DB 기준으로 다시 맞춰지도록
+    private static final Duration READY_TTL = Duration.ofDays(1);
+    // 재구성 도중 인스턴스가 죽어도 delta 버퍼가 남지 않도록
+    private static final Duration REBUILD_TTL = Duration.ofMinutes(10);
+
+    // 라이브 키에 +1, 재구성 중이면 delta 에도 +1 (표시 확인과 반영을 한 번에 해서 어느 쪽에서도 빠지지 않도록)
+    private static final String INCREMENT_SCRIPT = """
+            redis.call('ZINCRBY', KEYS[1], 1, ARGV[1])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZINCRBY', KEYS[3], 1, ARGV[1])
+                redis.call('PEXPIRE', KEYS[3], ARGV[2])
+            end
+            return 1
+            """;
+
+    // 임시 키로 교체한 뒤 재구성 중 들어온 delta 를 더하고 표시/버퍼 정리
+    private static final String SWAP_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            else
+                redis.call('DEL', KEYS[2])
+            end
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[3])
+            end
+            redis.call('DEL', KEYS[3], KEYS[4])
+            return 1
+            """;
+
+    private final RedissonClient redisson;
+    private final UserChallengeRepository userChallengeRepository;
+    private final UserRepository userRepository;
+    private final PagingPolicy pagingPolicy;
+
+    // 크루 랭킹 페이지 (참여 수 내림차순)
+    public List<CrewRankingResponse> getRanking(Long crewId, Integer page, Integer size) {
+        int pageSize = pagingPolicy.resolve(size);
+        int start = Math.max(0, page == null ? 0 : page) * pageSize;
+
+        ensureLoaded(crewId);
+        Collection<ScoredEntry<Long>> entries = scores(crewId).entryRangeReversed(start, start + pageSize - 1);
+        if (entries.isEmpty()) return List.of();
+
+        Map<Long, String> names = findUserNames(entries.stream().map(ScoredEntry::getValue).toList());
+
+        List<CrewRankingResponse> ranking = new ArrayList<>(entries.size());
+        int rank = start + 1;
+        for (ScoredEntry<Long> e : entries) {
+            ranking.add(new CrewRankingResponse(e.getValue(), names.get(e.getValue()),
+                    e.getScore().longValue(), rank++));
+        }
+        return ranking;
+    }
+
+    // 크루 내 내 순위
+    public CrewRankingResponse getMyRank(Long crewId, Long userId) {
+        ensureLoaded(crewId);
+        RScoredSortedSet<Long> set = scores(crewId);
+        Integer revRank = set.revRank(userId);
+        Double score = set.getScore(userId);
+        if (revRank == null || score == null) {
+            throw new EntityNotFoundException("크루 랭킹에 기록이 없습니다.");
+        }
+        String userName = userRepository.findById(userId).map(User::getUserName).orElse(null);
+        return new CrewRankingResponse(userId, userName, score.longValue(), revRank + 1);
+    }
+
+    // UserChallenge 생성 (크루 챌린지 생성/참가) 커밋 후 +1
+    public void recordParticipation(Long crewId, Long userId) {
+        if (crewId == null || userId == null) return;
+        TransactionHooks.afterCommit(() -> {
+            try {
+                // ready 플래그 유무와 무관하게 항상 라이브 키에 반영 (플래그 만료/재구성 사이에 들어온 증분도 유실되지 않도록)
+                redisson.getScript(LongCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, INCREMENT_SCRIPT,
+                        RScript.ReturnType.INTEGER,
+                        List.of(KEY_PREFIX + crewId, rebuildingKey(crewId), deltaKey(crewId)),
+                        userId, REBUILD_TTL.toMillis());
+            } catch (RuntimeException e) {
+                log.warn("크루 랭킹 증분 반영 실패 crewId={} userId={}", crewId, userId, e);
+                invalidateNow(crewId);
+            }
+        });
+    }
+
+    // 크루 챌린지 삭제 등 대량 변경 시 커밋 후 무효화 (다음 조회 때 재구성)
+    public void invalidate(Long crewId) {
+        if (crewId == null) return;
+        TransactionHooks.afterCommit(() -> invalidateNow(crewId));
+    }
+
+    private void invalidateNow(Long crewId) {
+        ready(crewId).delete();
+        scores(crewId).delete();
+    }
+
+    private void ensureLoaded(Long crewId) {
+        if (ready(crewId).isExists()) return;
+
+        RLock lock = redisson.getLock(KEY_PREFIX + crewId + ":lock");
+        boolean locked = false;
+        try {
+            // 임대 시간 없이 잡아서 watchdog 이 연장 (큰 크루 재구성이 길어져도 두 재구성이 겹치지 않도록)
+            locked = lock.tryLock(3000, TimeUnit.MILLISECONDS);
+            if (!locked) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "랭킹을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (ready(crewId).isExists()) return; // 다른 요청이 먼저 채움
+            rebuild(crewId);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "락 획득 중 인터럽트", ie);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 임시 키에 채운 뒤 rename 으로 교체 (재구성 중에도 이전 랭킹이 절반만 보이지 않도록)
+    // GROUP BY 이후 커밋된 증분은 재구성 표시가 켜진 동안 delta 에도 쌓였다가 교체 직후 더해진다
+    private void rebuild(Long crewId) {
+        redisson.getKeys().delete(deltaKey(crewId));
+        redisson.getBucket(rebuildingKey(crewId)).set(Boolean.TRUE.toString(), REBUILD_TTL);
+
+        Map<Long, Double> counts = new HashMap<>();
+        for (Object[] row : userChallengeRepository.findUserRankingByCrew(crewId)) {
+            counts.put((Long) row[0], ((Long) row[1]).doubleValue());
+        }
+
+        String tmpKey = KEY_PREFIX + crewId + ":tmp";
+        RScoredSortedSet<Long> tmp = redisson.getScoredSortedSet(tmpKey, LongCodec.INSTANCE);
+        tmp.delete();
+        if (!counts.isEmpty()) {
+            tmp.addAll(counts);
+        }
+        redisson.getScript(LongCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, SWAP_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(tmpKey, KEY_PREFIX + crewId, deltaKey(crewId), rebuildingKey(crewId)));
+        ready(crewId).set(Boolean.TRUE.toString(), READY_TTL);
+        log.info("크루 랭킹 재구성 crewId={} users={}", crewId, counts.size());
+    }
+
+    private Map<Long, String> findUserNames(List<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, u -> Objects.toString(u.getUserName(), ""), (a, b) -> a));
+    }
+
+    private RScoredSortedSet<Long> scores(Long crewId) {
+        return redisson.getScoredSortedSet(KEY_PREFIX + crewId, LongCodec.INSTANCE);
+    }
+
+    private static String rebuildingKey(Long crewId) {
+        return KEY_PREFIX + crewId + ":rebuilding";
+    }
+
+    private static String deltaKey(Long crewId) {
+        return KEY_PREFIX + crewId + ":delta";
+    }
+
+    private RBucket<String> ready(Long crewId) {
+        return redisson.getBucket(KEY_PREFIX + crewId + ":ready");
+    }
+}
@@ -3,10 +3,8 @@ package org.example.crew;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.example.challenge.repository.ChallengeRepository;
-import org.example.challenge.repository.UserChallengeRepository;
 import org.example.crew.dto.CrewCreateRequest;
 import org.example.crew.dto.CrewJoinRequest;
-import org.example.crew.dto.CrewRankingResponse;
 import org.example.crew.dto.CrewResponse;
 import org.example.crew.entity.Crew;
 import org.example.crew.entity.CrewImage;
@@ -16,17 +14,22 @@ import org.example.crew.repository.CrewImageRepository;
 import org.example.crew.repository.CrewRepository;
 import org.example.crew.repository.UserCrewRepository;
 import org.example.general.S3Uploader;
+import org.example.general.UploadedImage;
 import org.example.user.User;
 import org.example.user.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -34,46 +37,47 @@ public class CrewService {
     private final CrewRepository crewRepository;
     private final UserRepository userRepository;
     private final UserCrewRepository userCrewRepository;
-    private final UserChallengeRepository userChallengeRepository;
     private final ChallengeRepository challengeRepository;
     private final CrewImageRepository crewImageRepository;
     private final S3Uploader s3Uploader;
+    private final TransactionTemplate transactionTemplate;
 
     // 그룹 생성
     // isPublic: true - code null, false - code 생성
     // 그룹 생성한 사람 OWNER 설정
-    @Transactional
+    // 이미지는 트랜잭션 밖에서 병렬 업로드, 크루/이미지 행은 업로드가 끝난 뒤 짧은 트랜잭션 하나로 저장
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CrewResponse createCrew(Long userId, CrewCreateRequest req, List<MultipartFile> images) throws IOException {
-        User user = userRepository.getReferenceById(userId);
-        boolean isPublic = Boolean.TRUE.equals(req.getIsPublic());
+        List<UploadedImage> uploaded = s3Uploader.uploadAll(images, "crew");
 
-        String code = isPublic ? null : generateUniqueCrewCode();
-        Crew group = crewRepository.save(
-                new Crew(req.getCrewName(), req.getCrewDescription(), code, isPublic)
-        );
-        group.addCustomTags(req.getCustomTags());
-        userCrewRepository.save(new UserCrew(user, group, UserCrewRole.OWNER));
-
-        if (images != null && !images.isEmpty()) {
-            int order = 0;
-            for (MultipartFile file : images) {
-                if (file == null || file.isEmpty()) continue;
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.getReferenceById(userId);
+            boolean isPublic = Boolean.TRUE.equals(req.getIsPublic());
 
-                String prefix = String.format("crew/%d", group.getCrewId());
-                String url = s3Uploader.uploadImageUnderPrefix(file, prefix);
+            String code = isPublic ? null : generateUniqueCrewCode();
+            Crew group = crewRepository.save(
+                    new Crew(req.getCrewName(), req.getCrewDescription(), code, isPublic)
+            );
+            group.addCustomTags(req.getCustomTags());
+            userCrewRepository.save(new UserCrew(user, group, UserCrewRole.OWNER));
 
-                CrewImage ci = CrewImage.builder()
+            int order = 0;
+            for (UploadedImage image : uploaded) {
+                crewImageRepository.save(CrewImage.builder()
                         .crew(group)
-                        .imageUrl(url)
+                        .imageUrl(image.getImageUrl())
+                        .mediumUrl(image.getMediumUrl())
+                        .thumbnailUrl(image.getThumbnailUrl())
                         .sortOrder(order)
                         .isThumbnail(order == 0) // 첫 이미지 썸네일
-                        .build();
-                crewImageRepository.save(ci);
+                        .build());
                 order++;
             }
-        }
 
-        return toResponse(group, UserCrewRole.OWNER);
+            s3Uploader.registerAfterCommit(uploaded);
+
+            return toResponse(group, UserCrewRole.OWNER);
+        });
     }
 
     private String generateUniqueCrewCode() {
@@ -140,9 +144,7 @@ public class CrewService {
     // 전체 그룹 조회
     @Transactional(readOnly = true)
     public List<CrewResponse> getAllCrews() {
-        return crewRepository.findAll().stream()
-                .map(g -> toResponse(g, null))
-                .toList();
+        return toResponses(crewRepository.findAll(), crewId -> null, true);
     }
 
     @Transactional(readOnly = true)
@@ -156,93 +158,81 @@ public class CrewService {
     }
 
     // 내가 참여한 그룹 조회
+    @Transactional(readOnly = true)
     public List<CrewResponse> getMyCrews(Long userId) {
-        List<Crew> groups = userCrewRepository.findCrewsByUserId(userId);
-
-        Map<Long, UserCrewRole> roleMap = userCrewRepository.findAll().stream()
-                .filter(ug -> ug.getUser().getUserId().equals(userId))
-                .collect(java.util.stream.Collectors.toMap(
-                        ug -> ug.getCrew().getCrewId(),
-                        UserCrew::getUserCrewRole
-                ));
-        return groups.stream()
-                .map(g -> toResponse(g, roleMap.get(g.getCrewId())))
-                .toList();
+        // 전체 멤버십을 읽지 않고 이 유저의 (크루, 역할)만 한 번에 조회
+        List<Crew> groups = new ArrayList<>();
+        Map<Long, UserCrewRole> roleMap = new HashMap<>();
+        for (Object[] row : userCrewRepository.findCrewsWithRoleByUserId(userId)) {
+            Crew crew = (Crew) row[0];
+            groups.add(crew);
+            roleMap.put(crew.getCrewId(), (UserCrewRole) row[1]);
+        }
+        return toResponses(groups, roleMap::get, true);
     }
 
     // 이름으로 그룹 검색
+    @Transactional(readOnly = true)
     public List<CrewResponse> searchCrewsByName(String keyword) {
         List<Crew> groups = crewRepository.findByCrewNameContainingIgnoreCase(keyword);
 
-        return groups.stream()
-                .map(g -> toResponse(g, null))
-                .toList();
+        return toResponses(groups, crewId -> null, true);
     }
 
-    @Transactional(readOnly = true)
-    public List<CrewRankingResponse> getCrewRanking(Long crewId) {
-        List<Object[]> rows = userChallengeRepository.findUserRankingByCrew(crewId);
-
-        List<CrewRankingResponse> ranking = new ArrayList<>();
-        int rank = 1;
-
-        for (Object[] row : rows) {
-            Long userId = (Long) row[0];
-            Long count = (Long) row[1];
+    private CrewResponse toResponse(Crew g, UserCrewRole role) {
+        return toResponses(List.of(g), crewId -> role, false).get(0);
+    }
 
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
+    // 크루 카드 일괄 조립: 크루 수와 무관하게 OWNER / 멤버 수 / 챌린지 수 / 이미지 4개 쿼리 (+ 태그 @BatchSize)
+    // thumbnails: 목록 응답이면 이미지 썸네일, 단건 응답이면 원본
+    private List<CrewResponse> toResponses(List<Crew> crews, Function<Long, UserCrewRole> roleOf, boolean thumbnails) {
+        if (crews.isEmpty()) return List.of();
+        List<Long> crewIds = crews.stream().map(Crew::getCrewId).toList();
 
-            ranking.add(new CrewRankingResponse(userId, user.getUserName(), count, rank++));
+        Map<Long, Object[]> owners = new HashMap<>();
+        for (Object[] row : userCrewRepository.findOwnersByCrewIds(crewIds)) {
+            owners.putIfAbsent((Long) row[0], row);
         }
+        Map<Long, Long> memberCounts = toCountMap(userCrewRepository.countMembersByCrewIds(crewIds));
+        Map<Long, Long> challengeCounts = toCountMap(challengeRepository.countByCrewIds(crewIds));
 
-        return ranking;
-    }
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Object[] row : crewImageRepository.findImageUrlsByCrewIds(crewIds)) {
+            imageUrls.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) (thumbnails ? row[2] : row[1]));
+        }
 
-    private List<String> findAllImageUrls(Long crewId) {
-        return crewImageRepository.findByCrew_CrewIdOrderBySortOrderAsc(crewId)
-                .stream()
-                .map(CrewImage::getImageUrl)
+        return crews.stream()
+                .map(g -> {
+                    Object[] owner = owners.get(g.getCrewId());
+                    List<String> customTags = g.getCustomTags() == null
+                            ? List.of()
+                            : g.getCustomTags().stream().toList();
+
+                    return new CrewResponse(
+                            g.getCrewId(),
+                            g.getCrewName(),
+                            g.getCrewDescription(),
+                            g.getCrewCode(),
+                            g.getCrewIsPublic(),
+                            roleOf.apply(g.getCrewId()),
+                            owner != null ? (Long) owner[1] : null,
+                            owner != null ? (String) owner[2] : null,
+                            memberCounts.getOrDefault(g.getCrewId(), 0L),
+                            challengeCounts.getOrDefault(g.getCrewId(), 0L),
+                            imageUrls.getOrDefault(g.getCrewId(), List.of()),
+                            customTags
+                    );
+                })
                 .toList();
     }
 
-    private CrewResponse toResponse(Crew g, UserCrewRole role) {
-        List<String> imageUrls = findAllImageUrls(g.getCrewId());
-
-        // ✅ OWNER 조회
-        UserCrew owner = userCrewRepository
-                .findByCrew_CrewId(g.getCrewId()).stream()
-                .filter(uc -> uc.getUserCrewRole() == UserCrewRole.OWNER)
-                .findFirst()
-                .orElse(null);
-
-        Long ownerId = (owner != null) ? owner.getUser().getUserId() : null;
-        String ownerName = (owner != null) ? owner.getUser().getUserName() : null;
-
-        // ✅ 멤버 수
-        Long memberCount = userCrewRepository.countByCrew_CrewId(g.getCrewId());
-
-        // ✅ 챌린지 개수
-        Long challengeCount = challengeRepository.countByCrew_CrewId(g.getCrewId());
-
-        List<String> customTags = g.getCustomTags() == null
-                ? List.of()
-                : g.getCustomTags().stream().toList();
-
-        return new CrewResponse(
-                g.getCrewId(),
-                g.getCrewName(),
-                g.getCrewDescription(),
-                g.getCrewCode(),
-                g.getCrewIsPublic(),
-                role,
-                ownerId,
-                ownerName,
-                memberCount,
-                challengeCount,
-                imageUrls,
-                customTags
-        );
+    // [id, count] -> Map
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
     }
 
 }
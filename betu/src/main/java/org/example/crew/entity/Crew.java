@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -25,6 +26,7 @@ public class Crew {
     private Boolean crewIsPublic;
 
     @ElementCollection
+    @BatchSize(size = 100) // 크루 목록에서 태그 컬렉션을 IN 으로 묶어 로딩
     @CollectionTable(name = "crew_custom_tags",
             joinColumns = @JoinColumn(name = "crew_id"))
     @Column(name = "custom_tag", nullable = false, length = 50)
@@ -22,6 +22,12 @@ public class CrewImage {
     @Column(nullable = false, length = 1000)
     private String imageUrl;
 
+    @Column(length = 1000)
+    private String mediumUrl;
+
+    @Column(length = 1000)
+    private String thumbnailUrl;
+
     private Integer sortOrder;     // 노출 순서 (0,1,2…)
 
     private Boolean isThumbnail;
@@ -10,6 +10,12 @@ import org.example.user.User;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // 내 크루 목록 / 멤버십 확인 (userId 선두)
+        @Index(name = "idx_user_crew_user_crew", columnList = "userId, crewId"),
+        // 크루별 멤버/OWNER 조회
+        @Index(name = "idx_user_crew_crew_role", columnList = "crewId, userCrewRole")
+})
 public class UserCrew {
 
     @Id
@@ -2,7 +2,10 @@ package org.example.crew.repository;
 
 import org.example.crew.entity.CrewImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +21,13 @@ public interface CrewImageRepository extends JpaRepository<CrewImage, Long> {
 
     void deleteByCrew_CrewId(Long crewId);
 
+    // 여러 크루 이미지 한 번에: [crewId, imageUrl, thumbnailUrl (없으면 원본)] (크루별 sortOrder 순)
+    @Query("""
+        select ci.crew.crewId, ci.imageUrl, coalesce(ci.thumbnailUrl, ci.imageUrl)
+          from CrewImage ci
+         where ci.crew.crewId in :crewIds
+         order by ci.crew.crewId asc, ci.sortOrder asc
+    """)
+    List<Object[]> findImageUrlsByCrewIds(@Param("crewIds") Collection<Long> crewIds);
+
 }
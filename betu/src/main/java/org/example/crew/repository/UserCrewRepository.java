@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,12 +18,40 @@ public interface UserCrewRepository extends JpaRepository<UserCrew, Long> {
 
     boolean existsByUser_UserIdAndCrew_CrewId(Long userId, Long groupId);
 
-    @Query("SELECT uc.crew FROM UserCrew uc WHERE uc.user.userId = :userId")
-    List<Crew> findCrewsByUserId(@Param("userId") Long userId);
+    // 내가 속한 크루 + 내 역할: [Crew, UserCrewRole] (idx_user_crew_user_crew 로 이 유저 멤버십만 읽음)
+    @Query("""
+        select c, uc.userCrewRole
+          from UserCrew uc
+          join uc.crew c
+         where uc.user.userId = :userId
+         order by c.crewId asc
+    """)
+    List<Object[]> findCrewsWithRoleByUserId(@Param("userId") Long userId);
 
     boolean existsByUser_UserIdAndCrew_CrewIdAndUserCrewRole(
             Long userId, Long crewId, UserCrewRole role
     );
 
     Long countByCrew_CrewId(Long crewId);
+
+    // ===== 크루 카드 일괄 조회 (크루 수와 무관하게 쿼리 수 고정) =====
+
+    // 크루별 OWNER: [crewId, userId, userName]
+    @Query("""
+        select uc.crew.crewId, u.userId, u.userName
+          from UserCrew uc
+          join uc.user u
+         where uc.crew.crewId in :crewIds
+           and uc.userCrewRole = org.example.crew.entity.UserCrewRole.OWNER
+    """)
+    List<Object[]> findOwnersByCrewIds(@Param("crewIds") Collection<Long> crewIds);
+
+    // 크루별 멤버 수: [crewId, count]
+    @Query("""
+        select uc.crew.crewId, count(uc)
+          from UserCrew uc
+         where uc.crew.crewId in :crewIds
+         group by uc.crew.crewId
+    """)
+    List<Object[]> countMembersByCrewIds(@Param("crewIds") Collection<Long> crewIds);
 }
@@ -0,0 +1,46 @@
+package org.example.general;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 불투명(opaque) 커서 인코딩/디코딩.
+ * 정렬 키 값들을 "v1:값1:값2" 형태로 이어 붙인 뒤 URL-safe Base64 로 감싼다.
+ * 클라이언트는 커서 내용을 해석하지 않고 그대로 다음 요청에 넘기기만 하면 된다.
+ */
+public final class CursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long... values) {
+        StringBuilder sb = new StringBuilder(VERSION);
+        for (long v : values) {
+            sb.append(':').append(v);
+        }
+        return ENCODER.encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서가 없으면 null, 형식이 잘못되면 IllegalArgumentException */
+    public static long[] decode(String cursor, int expectedSize) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != expectedSize + 1 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            long[] values = new long[expectedSize];
+            for (int i = 0; i < expectedSize; i++) {
+                values[i] = Long.parseLong(parts[i + 1]);
+            }
+            return values;
+        } catch (IllegalArgumentException e) { // Base64 / 숫자 파싱 오류 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
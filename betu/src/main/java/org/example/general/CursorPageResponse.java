@@ -0,0 +1,23 @@
+package org.example.general;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** 커서(keyset) 기반 페이지 응답. nextCursor 가 null 이면 마지막 페이지 */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(List<T> items, String nextCursor) {
+        return new CursorPageResponse<>(items, nextCursor, nextCursor != null);
+    }
+
+    public static <T> CursorPageResponse<T> empty() {
+        return new CursorPageResponse<>(List.of(), null, false);
+    }
+}
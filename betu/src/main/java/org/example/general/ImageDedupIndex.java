@@ -0,0 +1,62 @@
+package org.example.general;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용 주소(SHA-256) 기반 S3 키 -> 업로드된 원본/축소본 URL 인덱스 (Redis, 항목별 TTL).
+ * 같은 바이트가 다시 올라오면 PUT 과 축소본 생성을 건너뛰고 기존 객체를 참조한다.
+ * 항목은 이미지 행이 커밋된 뒤에만 추가되고 ttl 이 지나면 사라진다 (인덱스가 끝없이 커지지 않도록).
+ * 만료 뒤 같은 바이트가 오면 같은 키로 다시 올리고 다시 등록할 뿐이라 내용 주소 키에서는 안전하다.
+ */
+@Slf4j
+@Component
+public class ImageDedupIndex {
+
+    private static final String KEY = "s3:image-dedup:v2"; // RMapCache 형식 (이전 일반 hash 키와 구분)
+    private static final String SEPARATOR = "\n";
+
+    private final RedissonClient redisson;
+    private final long ttlDays;
+
+    public ImageDedupIndex(RedissonClient redisson,
+                           @Value("${image.dedup.ttl-days:30}") long ttlDays) {
+        this.redisson = redisson;
+        this.ttlDays = ttlDays;
+    }
+
+    public Optional<UploadedImage> find(String objectKey) {
+        try {
+            String value = index().get(objectKey);
+            if (value == null) return Optional.empty();
+            String[] urls = value.split(SEPARATOR, -1);
+            if (urls.length != 3) return Optional.empty();
+            return Optional.of(new UploadedImage(urls[0], urls[1], urls[2], true, null));
+        } catch (RuntimeException e) {
+            // 인덱스 장애 시에는 그냥 새로 업로드
+            log.warn("이미지 중복 인덱스 조회 실패 key={}", objectKey, e);
+            return Optional.empty();
+        }
+    }
+
+    public void register(String objectKey, UploadedImage image) {
+        try {
+            index().fastPut(objectKey,
+                    String.join(SEPARATOR, image.getImageUrl(), image.getMediumUrl(), image.getThumbnailUrl()),
+                    ttlDays, TimeUnit.DAYS);
+        } catch (RuntimeException e) {
+            log.warn("이미지 중복 인덱스 등록 실패 key={}", objectKey, e);
+        }
+    }
+
+    private RMapCache<String, String> index() {
+        return redisson.getMapCache(KEY, StringCodec.INSTANCE);
+    }
+}
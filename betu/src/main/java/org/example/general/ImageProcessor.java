@@ -0,0 +1,182 @@
+package org.example.general;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 축소본 (썸네일 / 중간 크기) 생성과 지각 해시(dHash) 계산. 순수 Java ImageIO.
+ * 디코딩이 메모리/CPU 를 많이 쓰므로 고정 크기 워커 풀에서만 돌리고, 큐가 차면 호출 스레드에서 처리(백프레셔).
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final int HASH_SIZE = 8; // 8x8 = 64bit
+
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final ExecutorService workers;
+
+    public ImageProcessor(@Value("${image.thumbnail-size:320}") int thumbnailSize,
+                          @Value("${image.medium-size:1080}") int mediumSize,
+                          @Value("${image.worker-threads:2}") int workerThreads,
+                          @Value("${image.queue-size:64}") int queueSize) {
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "image-worker-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public CompletableFuture<ImageVariants> createVariantsAsync(Path source) {
+        return createVariantsAsync(new FileSystemResource(source), false);
+    }
+
+    // MultipartFile 도 InputStreamSource. withHash 면 같은 디코딩 결과로 지각 해시도 계산 (두 번 디코딩하지 않도록)
+    public CompletableFuture<ImageVariants> createVariantsAsync(InputStreamSource source, boolean withHash) {
+        return CompletableFuture.supplyAsync(() -> createVariants(source, withHash), workers);
+    }
+
+    /**
+     * difference hash: 9x8 흑백으로 줄인 뒤 가로로 이웃한 픽셀의 밝기 대소를 64bit 로.
+     * 재압축/리사이즈/약간의 밝기 변화에도 해밍 거리가 작게 유지된다. 디코딩 불가면 null.
+     */
+    public Long differenceHash(InputStreamSource source) {
+        try {
+            BufferedImage image = decode(source);
+            return image == null ? null : differenceHash(image);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 해시 계산 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long differenceHash(BufferedImage image) {
+        BufferedImage gray = new BufferedImage(HASH_SIZE + 1, HASH_SIZE, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, HASH_SIZE + 1, HASH_SIZE, null);
+        } finally {
+            g.dispose();
+        }
+
+        var raster = gray.getRaster();
+        long hash = 0L;
+        for (int y = 0; y < HASH_SIZE; y++) {
+            for (int x = 0; x < HASH_SIZE; x++) {
+                hash <<= 1;
+                if (raster.getSample(x, y, 0) < raster.getSample(x + 1, y, 0)) {
+                    hash |= 1L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    // 원본 디코딩에 실패해도 업로드 자체는 진행 (축소본 없이 원본 URL 사용)
+    private ImageVariants createVariants(InputStreamSource source, boolean withHash) {
+        try {
+            BufferedImage image = decode(source);
+            if (image == null) return ImageVariants.NONE;
+            return new ImageVariants(resizeToJpeg(image, thumbnailSize), resizeToJpeg(image, mediumSize),
+                    withHash ? differenceHash(image) : null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 축소본 생성 실패: {}", e.getMessage());
+            return ImageVariants.NONE;
+        }
+    }
+
+    // 큰 사진은 서브샘플링으로 중간 크기 근처까지만 디코딩 (12MP 원본을 통째로 풀지 않도록)
+    private BufferedImage decode(InputStreamSource source) throws IOException {
+        try (InputStream in = source.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longSide / mediumSize);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변이 target 이하면 만들지 않음 (원본 사용)
+    private byte[] resizeToJpeg(BufferedImage src, int target) throws IOException {
+        int longSide = Math.max(src.getWidth(), src.getHeight());
+        if (longSide <= target) return null;
+
+        double scale = (double) target / longSide;
+        int w = Math.max(1, (int) Math.round(src.getWidth() * scale));
+        int h = Math.max(1, (int) Math.round(src.getHeight() * scale));
+
+        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE); // 투명 PNG 배경
+            g.fillRect(0, 0, w, h);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(dst, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
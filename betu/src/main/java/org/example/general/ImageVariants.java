@@ -0,0 +1,20 @@
+package org.example.general;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드 이미지에서 만든 축소본 (JPEG).
+ * 원본의 긴 변이 목표 크기 이하이거나 디코딩할 수 없으면 해당 축소본은 null 이고, 업로드 결과의 축소본 URL 은 원본 URL 로 채운다.
+ * differenceHash 는 요청했을 때만 같은 디코딩 결과로 계산한 지각 해시 (아니면 null).
+ */
+@Getter
+@AllArgsConstructor
+public class ImageVariants {
+
+    public static final ImageVariants NONE = new ImageVariants(null, null, null);
+
+    private byte[] thumbnail;
+    private byte[] medium;
+    private Long differenceHash;
+}
@@ -0,0 +1,21 @@
+package org.example.general;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** 목록 API 공통 페이지 크기 정책 (paging.default-size / paging.max-size) */
+@Component
+public class PagingPolicy {
+
+    @Value("${paging.default-size:20}")
+    private int defaultSize;
+
+    @Value("${paging.max-size:50}")
+    private int maxSize;
+
+    // 요청 크기를 [1, maxSize] 범위로 보정, 없으면 기본값
+    public int resolve(Integer requested) {
+        if (requested == null || requested <= 0) return Math.min(defaultSize, maxSize);
+        return Math.min(requested, maxSize);
+    }
+}
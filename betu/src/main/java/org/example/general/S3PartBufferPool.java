@@ -0,0 +1,106 @@
+package org.example.general;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 multipart 업로드 파트용 direct ByteBuffer 풀.
+ * 버퍼 수가 고정이라 동시 대용량 업로드가 몰려도 파트 버퍼 메모리는 partSize * poolSize 를 넘지 않는다.
+ */
+@Component
+public class S3PartBufferPool {
+
+    private final int partSize;
+    private final BlockingQueue<ByteBuffer> buffers;
+
+    public S3PartBufferPool(@Value("${cloud.aws.s3.part-size-bytes:5242880}") int partSize,
+                            @Value("${cloud.aws.s3.part-buffer-count:8}") int poolSize) {
+        this.partSize = partSize;
+        this.buffers = new ArrayBlockingQueue<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            buffers.add(ByteBuffer.allocateDirect(partSize));
+        }
+    }
+
+    public int partSize() {
+        return partSize;
+    }
+
+    // 풀이 비어 있으면 반납될 때까지 대기 (업로드 동시성 제한 역할)
+    public ByteBuffer acquire() throws IOException {
+        try {
+            ByteBuffer buffer = buffers.poll(30, TimeUnit.SECONDS);
+            if (buffer == null) {
+                throw new IOException("업로드 버퍼를 확보하지 못했습니다.");
+            }
+            buffer.clear();
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("업로드 버퍼 대기 중 인터럽트", e);
+        }
+    }
+
+    public void release(ByteBuffer buffer) {
+        buffers.offer(buffer);
+    }
+
+    // 스트림에서 최대 버퍼 크기만큼 읽어 채우고 flip (EOF 면 remaining 0)
+    static void fill(ByteBuffer buffer, InputStream in) throws IOException {
+        byte[] chunk = new byte[8192];
+        while (buffer.hasRemaining()) {
+            int n = in.read(chunk, 0, Math.min(chunk.length, buffer.remaining()));
+            if (n < 0) break;
+            buffer.put(chunk, 0, n);
+        }
+        buffer.flip();
+    }
+
+    // ByteBuffer 를 복사 없이 읽는 InputStream (SDK 재시도를 위해 mark/reset 지원)
+    static InputStream asInputStream(ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate();
+        return new InputStream() {
+            private int mark = view.position();
+
+            @Override
+            public int read() {
+                return view.hasRemaining() ? (view.get() & 0xFF) : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (!view.hasRemaining()) return -1;
+                int n = Math.min(len, view.remaining());
+                view.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+
+            @Override
+            public boolean markSupported() {
+                return true;
+            }
+
+            @Override
+            public synchronized void mark(int readLimit) {
+                mark = view.position();
+            }
+
+            @Override
+            public synchronized void reset() {
+                view.position(mark);
+            }
+        };
+    }
+}
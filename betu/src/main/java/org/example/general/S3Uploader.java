@@ -1,47 +1,277 @@
 package org.example.general;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Uploader {
 
+    private static final String REGION = "ap-northeast-2";
+    private static final String THUMBNAIL = "thumb";
+    private static final String MEDIUM = "medium";
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3PartBufferPool partBufferPool;
+    private final ImageProcessor imageProcessor;
+    private final ImageDedupIndex dedupIndex;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
-    // 챌린지 사진 인증 (수정 필요)
-    public String uploadImageUnderPrefix(MultipartFile file, String prefix) throws IOException {
-        String region = "ap-northeast-2";
-        String ext = Optional.ofNullable(file.getOriginalFilename())
-                .filter(n -> n.contains("."))
-                .map(n -> n.substring(n.lastIndexOf('.')))
-                .orElse(".jpg");
+    // 이 크기를 넘으면 풀링된 파트 버퍼로 multipart 업로드
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:8388608}")
+    private long multipartThreshold;
 
-        String key = String.format("%s/%d%s", prefix, System.currentTimeMillis(), ext);
+    // getBytes() 로 파일 전체를 힙에 복사하지 않고 입력 스트림에서 길이를 알려준 채 그대로 전송,
+    // 큰 파일은 direct 버퍼 풀의 파트 단위로 multipart 업로드해서 업로드당 메모리를 일정하게 유지한다.
+    private void putStreaming(MultipartFile file, String key) throws IOException {
+        long size = file.getSize();
+        if (size > multipartThreshold) {
+            uploadMultipart(file, key);
+            return;
+        }
 
         PutObjectRequest req = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(key)
                 .contentType(file.getContentType())
+                .contentLength(size)
                 .build();
 
-        s3Client.putObject(req, RequestBody.fromBytes(file.getBytes()));
+        try (InputStream in = file.getInputStream()) {
+            s3Client.putObject(req, RequestBody.fromInputStream(in, size));
+        }
+    }
+
+    private void uploadMultipart(MultipartFile file, String key) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(file.getContentType())
+                .build()).uploadId();
 
-        return String.format("https://%s.s3.%s.amazonaws.com/%s",
-                bucketName, region, key);
+        List<CompletedPart> parts = new ArrayList<>();
+        ByteBuffer buffer = partBufferPool.acquire();
+        try (InputStream in = file.getInputStream()) {
+            int partNumber = 1;
+            while (true) {
+                buffer.clear();
+                S3PartBufferPool.fill(buffer, in);
+                int length = buffer.remaining();
+                if (length == 0) break;
+
+                UploadPartResponse res = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromInputStream(S3PartBufferPool.asInputStream(buffer), length));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(res.eTag()).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // 미완료 multipart 는 과금되므로 중단 처리
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        } finally {
+            partBufferPool.release(buffer);
+        }
     }
 
+    /**
+     * 단일 이미지 동기 업로드 + 축소본(썸네일/중간) 생성 + 지각 해시(perceptualHash).
+     * 원본은 스트리밍으로 올리는 동안 축소본과 해시는 이미지 워커 풀에서 한 번의 디코딩으로 만든다.
+     */
+    public UploadedImage uploadImageWithVariants(MultipartFile file, String prefix) throws IOException {
+        String key = contentKey(prefix, file, sha256Hex(file.getInputStream()));
+        Optional<UploadedImage> existing = dedupIndex.find(key);
+        if (existing.isPresent()) { // 같은 사진 재업로드: PUT/축소본 생략, 해시만 계산
+            return existing.get().withPerceptualHash(imageProcessor.differenceHash(file));
+        }
+
+        CompletableFuture<ImageVariants> variants = imageProcessor.createVariantsAsync(file, true);
+        putStreaming(file, key);
+        try {
+            return variants.thenCompose(v -> uploadVariants(key, v)).join();
+        } catch (CompletionException e) {
+            throw new IOException("이미지 업로드에 실패했습니다.", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * 여러 이미지를 S3AsyncClient 로 병렬 업로드하고 입력 순서대로 반환 (빈 파일은 건너뜀).
+     * 파일 내용을 힙에 올리지 않도록 multipart 파트를 임시 파일로 옮긴 뒤 파일에서 바로 스트리밍하고,
+     * 같은 임시 파일로 이미지 워커 풀에서 썸네일/중간 크기 축소본을 만들어 함께 올린다.
+     * 키는 내용 해시라 이미 올라간 같은 바이트는 PUT 없이 기존 객체를 참조한다.
+     * 하나라도 실패하면 IOException (이미 올라간 객체는 지우지 않음, 아래 registerAfterCommit 참고).
+     * DB 트랜잭션 밖에서 호출하고, 이미지 행은 업로드가 끝난 뒤 짧은 트랜잭션에서 저장할 것.
+     */
+    public List<UploadedImage> uploadAll(List<MultipartFile> files, String prefix) throws IOException {
+        if (files == null || files.isEmpty()) return List.of();
+
+        List<CompletableFuture<UploadedImage>> uploads = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                if (file == null || file.isEmpty()) continue;
+
+                Path staged = Files.createTempFile("s3-upload-", ".part");
+                String key;
+                try {
+                    file.transferTo(staged); // 디스크에 있는 파트면 이동/복사만 (힙 버퍼링 없음)
+                    key = contentKey(prefix, file, sha256Hex(Files.newInputStream(staged)));
+                } catch (IOException e) {
+                    deleteQuietly(staged);
+                    throw e;
+                }
+
+                Optional<UploadedImage> existing = dedupIndex.find(key);
+                if (existing.isPresent()) {
+                    deleteQuietly(staged);
+                    uploads.add(CompletableFuture.completedFuture(existing.get()));
+                    continue;
+                }
+
+                PutObjectRequest req = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(file.getContentType())
+                        .contentLength(file.getSize())
+                        .build();
+
+                CompletableFuture<PutObjectResponse> original =
+                        s3AsyncClient.putObject(req, AsyncRequestBody.fromFile(staged));
+                CompletableFuture<ImageVariants> variants = imageProcessor.createVariantsAsync(staged);
+                // 원본 전송과 축소본 디코딩이 둘 다 끝난 뒤 임시 파일 삭제
+                CompletableFuture.allOf(original, variants).whenComplete((v, ex) -> deleteQuietly(staged));
+
+                uploads.add(original.thenCombine(
+                        variants.thenCompose(v -> uploadVariants(key, v)),
+                        (res, uploaded) -> uploaded));
+            }
+
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (IOException | CompletionException e) {
+            // 진행 중인 업로드가 끝날 때까지 대기 (임시 파일 정리)
+            uploads.forEach(f -> f.exceptionally(ex -> null).join());
+            Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+            throw new IOException("이미지 업로드에 실패했습니다.", cause);
+        }
+
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
 
+    // 축소본 업로드 (없는 축소본은 원본 URL 로 대체)
+    private CompletableFuture<UploadedImage> uploadVariants(String key, ImageVariants variants) {
+        String originalUrl = toUrl(key);
+        CompletableFuture<String> medium = putVariant(variantKey(key, MEDIUM), variants.getMedium(), originalUrl);
+        CompletableFuture<String> thumbnail = putVariant(variantKey(key, THUMBNAIL), variants.getThumbnail(), originalUrl);
+        return medium.thenCombine(thumbnail, (m, t) -> new UploadedImage(originalUrl, m, t, false, variants.getDifferenceHash()));
+    }
+
+    private CompletableFuture<String> putVariant(String key, byte[] bytes, String fallbackUrl) {
+        if (bytes == null) return CompletableFuture.completedFuture(fallbackUrl);
+        PutObjectRequest req = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType("image/jpeg")
+                .contentLength((long) bytes.length)
+                .build();
+        return s3AsyncClient.putObject(req, AsyncRequestBody.fromBytes(bytes)).thenApply(res -> toUrl(key));
+    }
+
+    /**
+     * 이미지 행을 저장하는 트랜잭션 안에서 호출: 커밋이 끝난 뒤에만 중복 인덱스에 등록한다.
+     * 롤백된 업로드는 인덱스에 오르지 않으므로 재사용 대상이 되지 않는다.
+     * 내용 주소 키는 같은 내용을 올린 다른 요청이 동시에 참조할 수 있어 요청 경로에서는 지우지 않는다
+     * (롤백된 업로드의 객체는 버킷에 남는다).
+     */
+    public void registerAfterCommit(List<UploadedImage> images) {
+        String base = toUrl("");
+        for (UploadedImage image : images) {
+            if (image.isReused() || !image.getImageUrl().startsWith(base)) continue;
+            String key = image.getImageUrl().substring(base.length());
+            TransactionHooks.afterCommit(() -> dedupIndex.register(key, image));
+        }
+    }
+
+    // 내용 주소 키: {prefix}/{sha256}{ext} (같은 바이트는 같은 키, 다른 바이트는 동시에 올려도 겹치지 않음)
+    private String contentKey(String prefix, MultipartFile file, String sha256) {
+        String ext = Optional.ofNullable(file.getOriginalFilename())
+                .filter(n -> n.contains("."))
+                .map(n -> n.substring(n.lastIndexOf('.')).toLowerCase())
+                .orElse(".jpg");
+        return String.format("%s/%s%s", prefix, sha256, ext);
+    }
+
+    // 스트리밍 해시 (파일 전체를 메모리에 올리지 않음)
+    private static String sha256Hex(InputStream source) throws IOException {
+        try (InputStream in = source) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] chunk = new byte[8192];
+            int n;
+            while ((n = in.read(chunk)) > 0) {
+                digest.update(chunk, 0, n);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // {prefix}/{name}.png -> {prefix}/{name}_thumb.jpg
+    private static String variantKey(String key, String variant) {
+        int dot = key.lastIndexOf('.');
+        String base = dot > key.lastIndexOf('/') ? key.substring(0, dot) : key;
+        return base + "_" + variant + ".jpg";
+    }
+
+    private String toUrl(String key) {
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, REGION, key);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패 path={}", path, e);
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package org.example.general;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * S3 에 올라간 이미지 원본 + 축소본 URL.
+ * 축소본을 만들지 않은 경우 (ImageVariants 참고) mediumUrl/thumbnailUrl 은 원본 URL 이라
+ * 이미지 엔티티의 축소본 URL 컬럼은 항상 채워진다.
+ */
+@Getter
+@AllArgsConstructor
+public class UploadedImage {
+    private String imageUrl;
+    private String mediumUrl;
+    private String thumbnailUrl;
+    private boolean reused; // 같은 내용의 기존 객체를 참조 (이미 인덱스에 있음)
+    private Long perceptualHash; // uploadImageWithVariants 에서만 채움 (디코딩 불가면 null)
+
+    UploadedImage withPerceptualHash(Long hash) {
+        return new UploadedImage(imageUrl, mediumUrl, thumbnailUrl, reused, hash);
+    }
+}
@@ -3,6 +3,7 @@ package org.example.general.config;
 import lombok.RequiredArgsConstructor;
 import org.example.general.jwt.JwtAuthenticationFilter;
 import org.example.general.jwt.JwtProvider;
+import org.example.general.jwt.PrincipalCache;
 import org.example.user.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,6 +26,7 @@ import java.util.Arrays;
 public class SecurityConfig {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -48,7 +50,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationProcessingFilter() {
-        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, userRepository);
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, userRepository, principalCache);
         return jwtAuthenticationFilter;
     }
 
@@ -1,6 +1,7 @@
 package org.example.general.jwt;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     public final JwtProvider jwtProvider;
     public final UserRepository userRepository;
+    public final PrincipalCache principalCache;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
@@ -54,8 +56,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 log.error("액세스 토큰과 리프레시 토큰이 모두 존재하지 않습니다.");
                 throw new JWTVerificationException("액세스 토큰과 리프레시 토큰이 모두 존재하지 않습니다.");
             }
-            // accesstoken 유효
-            if(accessToken != null && jwtProvider.isAccessTokenValid(accessToken)) {
+            // accesstoken 유효 (HMAC 검증은 여기서 한 번만, 디코딩 결과는 요청 attribute 로 공유)
+            if(accessToken != null) {
+                DecodedJWT decoded = jwtProvider.verifyAccessToken(accessToken);
+                JwtRequestContext.setDecodedAccessToken(request, decoded);
                 checkAccessTokenAndAuthentication(request, response, filterChain);
             }
             // refreshtoken 유효 -> accesstoken 재발급
@@ -86,15 +90,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                                   FilterChain filterChain) throws ServletException, IOException {
         log.info("checkAccessTokenAndAuthentication() 호출");
 
-        jwtProvider.extractAccessToken(request)
-                .ifPresent(accessToken -> {
-                    jwtProvider.extractUserId(accessToken)
-                            .ifPresent(userId -> {
-                                log.info("인증 대상 userId = {}", userId);
-                                userRepository.findByUserId(userId)
-                                        .ifPresentOrElse(this::saveAuthentication, () -> {
-                                            log.warn("토큰은 유효하지만 userId={}에 해당하는 유저 없음", userId);
-                                        });
+        JwtRequestContext.getDecodedAccessToken(request)
+                .flatMap(jwtProvider::extractUserId)
+                .ifPresent(userId -> {
+                    log.info("인증 대상 userId = {}", userId);
+                    principalCache.get(userId)
+                            .ifPresentOrElse(this::saveAuthentication, () -> {
+                                log.warn("토큰은 유효하지만 userId={}에 해당하는 유저 없음", userId);
                             });
                 });
 
@@ -112,14 +114,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     // 인증 허가
-    public void saveAuthentication(User myUser) {
+    public void saveAuthentication(UserDetails userDetailsUser) {
         log.info("saveAuthentication() 호출");
-        String password = myUser.getUserPassword();
-
-        UserDetails userDetailsUser = org.springframework.security.core.userdetails.User.builder()
-                .username(myUser.getUserEmail())
-                .password(password)
-                .build();
 
         Authentication authentication =
                 new UsernamePasswordAuthenticationToken(userDetailsUser, null,
@@ -1,11 +1,15 @@
 package org.example.general.jwt;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,6 +51,20 @@ public class JwtProvider {
     private static final String USER_ID_CLAIM = "userId";
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    // 서명 알고리즘/검증기는 thread-safe 라 한 번만 만들어 재사용
+    @Getter(AccessLevel.NONE)
+    private Algorithm algorithm;
+
+    @Getter(AccessLevel.NONE)
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    void initVerifier() {
+        this.algorithm = Algorithm.HMAC512(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+    }
 
     // accessToken 생성
     public String createAccessToken(String userEmail, Long userId) {
@@ -56,7 +74,7 @@ public class JwtProvider {
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
                 .withClaim(USER_EMAIL_CLAIM, userEmail)
                 .withClaim(USER_ID_CLAIM, userId)
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     // refreshToken 생성
@@ -65,7 +83,7 @@ public class JwtProvider {
         return JWT.create()
                 .withSubject(REFRESH_TOKEN_SUBJECT)
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
     // accessToken header 통해 전송
@@ -103,9 +121,7 @@ public class JwtProvider {
     // accessToken에서 userName 추출
     public Optional<String> extractEmail(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
+            return Optional.ofNullable(verifier.verify(accessToken)
                     .getClaim(USER_EMAIL_CLAIM)
                     .asString());
         } catch (Exception e) {
@@ -117,9 +133,7 @@ public class JwtProvider {
     // accessToken에서 userId 추출
     public Optional<Long> extractUserId(String accessToken) {
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
+            return Optional.ofNullable(verifier.verify(accessToken)
                     .getClaim(USER_ID_CLAIM)
                     .asLong());
         } catch (Exception e) {
@@ -142,7 +156,10 @@ public class JwtProvider {
     public void updateRefreshToken(Long userId, String refreshToken) {
         userRepository.findByUserId(userId)
                 .ifPresentOrElse(
-                        user -> user.updateRefreshToken(refreshToken),
+                        user -> {
+                            user.updateRefreshToken(refreshToken);
+                            principalCache.evictAfterCommit(userId);
+                        },
                         () -> {
                             throw new RuntimeException("일치하는 회원이 없습니다.");
                         });
@@ -151,7 +168,7 @@ public class JwtProvider {
     // token 유효성 확인
     public boolean isTokenValid(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifier.verify(token);
             log.info("유효한 토큰입니다.");
             return true;
         } catch (JWTVerificationException e) {
@@ -160,10 +177,25 @@ public class JwtProvider {
         }
     }
 
+    // accessToken 검증 + 디코딩 (필터에서 요청당 한 번만 호출, 결과는 JwtRequestContext 에 보관)
+    public DecodedJWT verifyAccessToken(String token) {
+        try {
+            return verifier.verify(token);
+        } catch (JWTVerificationException e) {
+            log.error("유효하지 않은 엑세스 토큰입니다. {}", e.getMessage());
+            throw new JWTVerificationException("엑세스 토큰이 유효하지 않습니다.");
+        }
+    }
+
+    // 디코딩된 accessToken 에서 userId 추출 (재검증 없음)
+    public Optional<Long> extractUserId(DecodedJWT decodedAccessToken) {
+        return Optional.ofNullable(decodedAccessToken.getClaim(USER_ID_CLAIM).asLong());
+    }
+
     // accesstoken 유효성 확인
     public boolean isAccessTokenValid(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifier.verify(token);
             log.info("유효한 엑세스 토큰입니다.");
             return true;
         } catch (JWTVerificationException e) {
@@ -175,7 +207,7 @@ public class JwtProvider {
     // refreshtoken 유효성 확인
     public boolean isRefreshTokenValid(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
+            verifier.verify(token);
             log.info("유효한 리프레시 토큰입니다.");
             return true;
         } catch (JWTVerificationException e) {
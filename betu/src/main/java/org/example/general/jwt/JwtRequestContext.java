@@ -0,0 +1,23 @@
+package org.example.general.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+
+/** 필터에서 검증한 accessToken 을 요청 attribute 로 보관 (컨트롤러/서비스에서 재검증하지 않도록) */
+public final class JwtRequestContext {
+
+    private static final String DECODED_ACCESS_TOKEN = JwtRequestContext.class.getName() + ".decodedAccessToken";
+
+    private JwtRequestContext() {
+    }
+
+    public static void setDecodedAccessToken(HttpServletRequest request, DecodedJWT decoded) {
+        request.setAttribute(DECODED_ACCESS_TOKEN, decoded);
+    }
+
+    public static Optional<DecodedJWT> getDecodedAccessToken(HttpServletRequest request) {
+        return Optional.ofNullable((DecodedJWT) request.getAttribute(DECODED_ACCESS_TOKEN));
+    }
+}
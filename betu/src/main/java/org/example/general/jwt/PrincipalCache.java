@@ -0,0 +1,85 @@
+package org.example.general.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.general.TransactionHooks;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 인증 필터용 userId -> UserDetails 캐시 (LRU + TTL).
+ * 요청마다 users 테이블을 조회하지 않도록 하고, 비밀번호/권한/리프레시 토큰이 바뀌면 evict 한다.
+ * 지표: auth.principal.cache{result=hit|miss}, auth.principal.cache.size (actuator /metrics)
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        // access-order LinkedHashMap: 가장 오래 안 쓰인 항목부터 제거
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.hits = Counter.builder("auth.principal.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("auth.principal.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    public Optional<UserDetails> get(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return Optional.of(cached.userDetails());
+        }
+
+        misses.increment();
+        // 없는 유저는 캐시하지 않음 (가입 직후 요청이 막히지 않도록)
+        Optional<UserDetails> loaded = userRepository.findByUserId(userId).map(PrincipalCache::toUserDetails);
+        loaded.ifPresent(details -> entries.put(userId, new Entry(details, now + ttlMillis)));
+        return loaded;
+    }
+
+    // 커밋 이후 제거 (커밋 전에 지우면 다른 요청이 옛 값을 다시 채울 수 있음)
+    public void evictAfterCommit(Long userId) {
+        if (userId == null) return;
+        TransactionHooks.afterCommit(() -> {
+            entries.remove(userId);
+            log.debug("principal cache evict userId={}", userId);
+        });
+    }
+
+    private static UserDetails toUserDetails(User user) {
+        return org.springframework.security.core.userdetails.User.builder()
+                .username(user.getUserEmail())
+                .password(user.getUserPassword())
+                .build();
+    }
+
+    private record Entry(UserDetails userDetails, long expiresAt) {
+    }
+}
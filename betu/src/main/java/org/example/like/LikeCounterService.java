@@ -0,0 +1,136 @@
+package org.example.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.challenge.repository.ChallengeRepository;
+import org.example.community.repository.CommentRepository;
+import org.example.community.repository.PostRepository;
+import org.example.general.TransactionHooks;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 카운터 write-behind.
+ * 좋아요 행(PostLike/CommentLike/ChallengeLike)은 요청 트랜잭션에서 바로 저장하고,
+ * 카운터 컬럼 증감은 Redis hash (like:pending:{대상}) 에 원자적 증감(addAndGet)으로 누적했다가 주기적으로 묶어서 반영한다.
+ * (핫한 게시글/챌린지 행 락 경합 방지, 프로세스가 kill -9 로 죽어도 미반영 증감이 남음)
+ * 반영할 때는 hash 를 like:flushing:{대상} 으로 rename 해서 통째로 가져가고, 반영된 id 만 지운다.
+ * 카운터 컬럼은 updatable = false 라 엔티티 dirty checking 이 반영값을 덮어쓰지 않고,
+ * 각 Repository 의 addLikeCount (0 미만으로 내려가지 않는 일괄 update) 로만 바뀐다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeCounterService {
+
+    private static final String PENDING_PREFIX = "like:pending:";
+    private static final String FLUSHING_PREFIX = "like:flushing:";
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ChallengeRepository challengeRepository;
+    private final RedissonClient redisson;
+
+    // 요청 트랜잭션이 커밋된 뒤에만 증감 누적 (롤백된 좋아요는 카운트하지 않음)
+    public void record(LikeTarget target, Long id, int delta) {
+        TransactionHooks.afterCommit(() -> {
+            try {
+                pending(target).addAndGet(id, (long) delta);
+            } catch (RuntimeException e) {
+                log.warn("좋아요 카운터 누적 실패 target={} id={} delta={}", target, id, delta, e);
+            }
+        });
+    }
+
+    // 아직 DB 에 반영되지 않은 증감 (누적 중 + 반영 중)
+    public int pendingDelta(LikeTarget target, Long id) {
+        try {
+            Long pendingDelta = pending(target).get(id);
+            Long flushingDelta = flushing(target).get(id);
+            return (int) ((pendingDelta == null ? 0 : pendingDelta) + (flushingDelta == null ? 0 : flushingDelta));
+        } catch (RuntimeException e) {
+            log.warn("좋아요 미반영 증감 조회 실패 target={} id={}", target, id, e);
+            return 0;
+        }
+    }
+
+    // 화면 표시용 카운트 = 저장된 값 + 미반영 증감
+    public int currentCount(LikeTarget target, Long id, int persisted) {
+        return Math.max(0, persisted + pendingDelta(target, id));
+    }
+
+    // 여러 인스턴스 중 락을 잡은 하나만 반영
+    @Scheduled(fixedDelayString = "${like.flush-interval-ms:1000}")
+    public void flush() {
+        RLock lock = redisson.getLock("like:flush:lock");
+        if (!lock.tryLock()) return;
+        try {
+            for (LikeTarget target : LikeTarget.values()) {
+                flush(target);
+            }
+        } catch (RuntimeException e) {
+            log.warn("좋아요 카운터 반영 중단, 다음 주기에 재시도", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flush(LikeTarget target) {
+        RMap<Long, Long> flushing = flushing(target);
+        // 지난번에 반영하다 남은 것이 있으면 그것부터, 없으면 누적 hash 를 통째로 가져옴 (rename 은 원자적)
+        if (!flushing.isExists()) {
+            RMap<Long, Long> pending = pending(target);
+            if (!pending.isExists()) return;
+            pending.rename(flushing.getName());
+        }
+
+        // 증감이 같은 id 끼리 묶음 (대부분 +1/-1 이라 update 몇 번으로 끝남)
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        List<Long> zero = new ArrayList<>();
+        flushing.readAllMap().forEach((id, delta) -> {
+            if (delta == null || delta == 0) {
+                zero.add(id);
+            } else {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id);
+            }
+        });
+        if (!zero.isEmpty()) flushing.fastRemove(zero.toArray(Long[]::new));
+
+        idsByDelta.forEach((delta, ids) -> {
+            try {
+                apply(target, ids, delta.intValue());
+                flushing.fastRemove(ids.toArray(Long[]::new));
+            } catch (RuntimeException e) {
+                // 반영 실패한 묶음은 flushing hash 에 남겨 두고 다음 주기에 다시 시도
+                log.warn("좋아요 카운터 반영 실패 target={} ids={} delta={}", target, ids.size(), delta, e);
+            }
+        });
+    }
+
+    private void apply(LikeTarget target, List<Long> ids, int delta) {
+        switch (target) {
+            case POST -> postRepository.addLikeCount(ids, delta);
+            case COMMENT -> commentRepository.addLikeCount(ids, delta);
+            case CHALLENGE -> challengeRepository.addLikeCount(ids, delta);
+        }
+    }
+
+    private RMap<Long, Long> pending(LikeTarget target) {
+        return redisson.getMap(PENDING_PREFIX + target.name().toLowerCase(), LongCodec.INSTANCE);
+    }
+
+    private RMap<Long, Long> flushing(LikeTarget target) {
+        return redisson.getMap(FLUSHING_PREFIX + target.name().toLowerCase(), LongCodec.INSTANCE);
+    }
+}
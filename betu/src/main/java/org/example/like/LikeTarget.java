@@ -0,0 +1,8 @@
+package org.example.like;
+
+/** 좋아요 카운터 대상 */
+public enum LikeTarget {
+    POST,
+    COMMENT,
+    CHALLENGE
+}
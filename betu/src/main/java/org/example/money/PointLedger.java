@@ -0,0 +1,40 @@
+package org.example.money;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** 포인트 원장 (추가만 하고 수정/삭제하지 않음). User.point 는 이 원장의 합계를 원자적 update 로 유지한 값 */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "point_ledger",
+        indexes = @Index(name = "idx_point_ledger_user_id", columnList = "user_id, pointLedgerId"))
+public class PointLedger {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long pointLedgerId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long amount;        // 적립 +, 차감 -
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Type type;
+
+    private Long referenceId;   // 충전: pointPurchaseId, 베팅/정산: userChallengeId
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Type { CHARGE, BET, SETTLE_REFUND, SETTLE_BONUS, ADMIN_GRANT }
+}
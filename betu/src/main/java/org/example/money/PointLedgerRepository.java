@@ -0,0 +1,6 @@
+package org.example.money;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointLedgerRepository extends JpaRepository<PointLedger, Long> {
+}
@@ -0,0 +1,64 @@
+package org.example.money;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.example.user.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 적립/차감은 전부 여기로.
+ * 잔액은 조건부 원자적 update 한 번으로 바꾸고(행 잠금 조회 없음) 같은 트랜잭션에서 원장 행을 남긴다.
+ * 호출 측 트랜잭션에 참여하므로 호출 측이 롤백되면 잔액/원장도 함께 롤백.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final UserRepository userRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+
+    @Transactional
+    public void credit(Long userId, long amount, PointLedger.Type type, Long referenceId) {
+        requirePositive(amount);
+        if (userRepository.creditPoint(userId, amount) == 0) {
+            throw new EntityNotFoundException("사용자 없음");
+        }
+        append(userId, amount, type, referenceId);
+    }
+
+    // 잔액이 모자라면 update 가 0건 → 음수 잔액 불가
+    @Transactional
+    public void debit(Long userId, long amount, PointLedger.Type type, Long referenceId) {
+        requirePositive(amount);
+        if (userRepository.debitPoint(userId, amount) == 0) {
+            throw new IllegalStateException("포인트가 부족합니다.");
+        }
+        append(userId, -amount, type, referenceId);
+    }
+
+    // 엔티티 캐시가 아닌 DB 의 현재 잔액 (같은 트랜잭션의 update 반영)
+    @Transactional(readOnly = true)
+    public long balance(Long userId) {
+        return userRepository.findPointByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
+    }
+
+    private void append(Long userId, long amount, PointLedger.Type type, Long referenceId) {
+        pointLedgerRepository.save(PointLedger.builder()
+                .userId(userId)
+                .amount(amount)
+                .type(type)
+                .referenceId(referenceId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static void requirePositive(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("포인트 금액이 올바르지 않습니다.");
+        }
+    }
+}
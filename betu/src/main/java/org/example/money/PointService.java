@@ -1,18 +1,16 @@
 package org.example.money;
 
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.example.money.dto.TossPaymentResponse;
 import org.example.money.dto.PointChargeRequest;
 import org.example.money.dto.PointChargeResponse;
-import org.example.user.User;
 import org.example.user.UserRepository;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Objects;
@@ -28,6 +26,8 @@ public class PointService {
     private final UserRepository userRepository;
     private final PointPurchaseRepository pointPurchaseRepository;
     private final RedissonClient redisson;
+    private final PointLedgerService pointLedgerService;
+    private final TransactionTemplate transactionTemplate;
 
     /** 토스 결제 승인 + 포인트 적립 (멱등/동시성 대응 + Redis 분산 락) */
     public PointChargeResponse confirmAndCredit(Long userId, PointChargeRequest req) {
@@ -52,7 +52,7 @@ public class PointService {
                 throw new ResponseStatusException(HttpStatus.CONFLICT, "동일 결제 처리 중입니다. 잠시 후 다시 시도해주세요.");
             }
             // 락 보유 중에 트랜잭션 실행
-            return creditTx(userId, res);
+            return credit(userId, res);
 
         } catch (InterruptedException ie) {
             Thread.currentThread().interrupt();
@@ -105,35 +105,35 @@ public class PointService {
         }
     }
 
-    /** 실제 적립(트랜잭션 내부): 유니크 제약 + 사용자 행 잠금으로 중복/경합 방지 */
-    @Transactional
-    protected PointChargeResponse creditTx(Long userId, TossPaymentResponse res) {
+    /** 실제 적립: 같은 paymentKey 는 분산 락으로 직렬화되므로 이력 조회로 멱등 처리, 유니크 제약은 최후 방어 */
+    private PointChargeResponse credit(Long userId, TossPaymentResponse res) {
+        if (pointPurchaseRepository.findByPaymentKey(res.getPaymentKey()).isPresent()) {
+            return new PointChargeResponse(0L, pointLedgerService.balance(userId)); // 이미 처리됨(멱등)
+        }
         try {
-            // (A) 사용자 행 비관적 락 -> 포인트 합산 충돌 방지
-            User user = userRepository.findByIdForUpdate(userId)
-                    .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
-
-            // (B) 먼저 구매 이력 저장(UNIQUE 제약으로 멱등 보장)
-            PointPurchase purchase = PointPurchase.builder()
-                    .user(user)
-                    .amount(res.getTotalAmount())      // 결제 총 승인 금액
-                    .pointAmount(res.getTotalAmount())  // 포인트 적립 금액 = totalAmount
-                    .paymentKey(res.getPaymentKey())
-                    .orderId(res.getOrderId())
-                    .status(PointPurchase.Status.APPROVED)
-                    .build();
-            pointPurchaseRepository.save(purchase); // 중복이면 여기서 DataIntegrityViolationException
-
-            // (C) 포인트 적립 (동일 트랜잭션 내 원자성)
-            user.addPoint(res.getTotalAmount());
-
-            return new PointChargeResponse(res.getTotalAmount(), user.getPoint());
-
+            return transactionTemplate.execute(status -> creditTx(userId, res));
         } catch (DataIntegrityViolationException dup) {
-            // (D) paymentKey/orderId UNIQUE 충돌 → 이미 처리됨(멱등)
-            User u = userRepository.findById(userId)
-                    .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
-            return new PointChargeResponse(0L, u.getPoint());
+            // paymentKey/orderId UNIQUE 충돌 → 이미 처리됨(멱등), 트랜잭션은 통째로 롤백됨
+            return new PointChargeResponse(0L, pointLedgerService.balance(userId));
         }
     }
-}
\ No newline at end of file
+
+    // 구매 이력 + 원장 적립을 한 트랜잭션으로 (사용자 행 잠금 없음: 잔액은 원자적 update)
+    private PointChargeResponse creditTx(Long userId, TossPaymentResponse res) {
+        // (A) 먼저 구매 이력 저장(UNIQUE 제약으로 멱등 보장)
+        PointPurchase purchase = PointPurchase.builder()
+                .user(userRepository.getReferenceById(userId))
+                .amount(res.getTotalAmount())      // 결제 총 승인 금액
+                .pointAmount(res.getTotalAmount())  // 포인트 적립 금액 = totalAmount
+                .paymentKey(res.getPaymentKey())
+                .orderId(res.getOrderId())
+                .status(PointPurchase.Status.APPROVED)
+                .build();
+        pointPurchaseRepository.save(purchase); // 중복이면 여기서 DataIntegrityViolationException
+
+        // (B) 포인트 적립 + 원장 (동일 트랜잭션 내 원자성)
+        pointLedgerService.credit(userId, res.getTotalAmount(), PointLedger.Type.CHARGE, purchase.getPointPurchaseId());
+
+        return new PointChargeResponse(res.getTotalAmount(), pointLedgerService.balance(userId));
+    }
+}
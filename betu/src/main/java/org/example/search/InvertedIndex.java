@@ -0,0 +1,262 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인: 토큰 -> posting (내부 번호 int[] 오름차순 + 가중치 byte[]).
+ * 문서는 색인될 때마다 새 내부 번호(ordinal)를 받으므로 posting 은 append 만으로 정렬이 유지되고,
+ * 수정/삭제된 문서의 옛 번호는 live 비트만 끄고 죽은 번호가 쌓이면 한 번에 압축한다.
+ * posting 항목 하나는 5바이트 (박싱 없음).
+ * group 은 문서 필터용 값 (게시글의 crewId 등, 없으면 0).
+ * 검색은 모든 토큰을 포함한 문서(AND)만 대상으로, 가중치 합이 큰 순 / 같으면 최신(id 큰) 순.
+ * 한 글자 검색어용으로 글자별 posting(문서에 그 글자가 있으면 가중치 1)도 따로 유지한다 (부분 문자열 검색 유지).
+ * 결과는 최근 색인된 매칭 문서 MAX_CANDIDATES 건 안에서의 순위다. 커서와 무관하게 같은 범위를 보므로
+ * 페이지 사이 순서는 일관되고, 그보다 오래된 매칭 문서는 다음 페이지로도 나오지 않는다 (검색 API 결과 상한).
+ */
+class InvertedIndex {
+
+    static final int MAX_CANDIDATES = 10_000;   // 점수를 매기는 최대 매칭 문서 수 (최근 색인된 것부터)
+    static final int MAX_SCANNED = 200_000;     // 기준 posting 에서 훑는 최대 항목 수
+    private static final int COMPACT_MIN_DEAD = 10_000;
+
+    private static final Comparator<Hit> BY_RANK = Comparator
+            .comparingInt((Hit h) -> h.score)
+            .thenComparingLong(h -> h.docId);
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Character, Posting> charPostings = new HashMap<>(); // 한 글자 검색용 (글자 -> 포함 문서)
+
+    // 내부 번호 -> 문서 id / group
+    private long[] docIds = new long[1024];
+    private long[] groups = new long[1024];
+    private final BitSet live = new BitSet();
+    private LongIntHashMap ordinals = new LongIntHashMap(1024); // 문서 id -> 현재 내부 번호
+    private int nextOrdinal;
+    private int dead;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void upsert(long docId, long group, Map<String, Integer> terms) {
+        lock.writeLock().lock();
+        try {
+            kill(ordinals.get(docId));
+
+            int ord = nextOrdinal++;
+            if (ord == docIds.length) {
+                docIds = Arrays.copyOf(docIds, ord * 2);
+                groups = Arrays.copyOf(groups, ord * 2);
+            }
+            docIds[ord] = docId;
+            groups[ord] = group;
+            live.set(ord);
+            ordinals.put(docId, ord);
+
+            BitSet chars = new BitSet();
+            for (Map.Entry<String, Integer> e : terms.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new Posting()).append(ord, e.getValue());
+                e.getKey().chars().forEach(chars::set);
+            }
+            for (int c = chars.nextSetBit(0); c >= 0; c = chars.nextSetBit(c + 1)) {
+                charPostings.computeIfAbsent((char) c, k -> new Posting()).append(ord, 1);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            kill(ordinals.remove(docId));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * group 이 null 이면 그룹 필터 없음.
+     * cursorScore/cursorDocId 는 이전 페이지 마지막 결과 (keyset), 없으면 첫 페이지.
+     * 흔한 토큰만으로 된 검색어도 O(N) 이 되지 않도록 최근 색인된 문서부터 MAX_CANDIDATES 건까지만 점수를 매긴다.
+     * 이 범위는 커서 이전 결과까지 포함해 세므로 모든 페이지가 같은 후보 집합을 나눠 보여 준다.
+     */
+    SearchHits search(Collection<String> terms, Long group, Integer cursorScore, Long cursorDocId, int limit) {
+        if (terms.isEmpty() || limit <= 0) return SearchHits.EMPTY;
+
+        lock.readLock().lock();
+        try {
+            List<Posting> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Posting posting = term.length() < NgramTokenizer.GRAM
+                        ? charPostings.get(term.charAt(0))
+                        : postings.get(term);
+                if (posting == null) return SearchHits.EMPTY;
+                lists.add(posting);
+            }
+            // 가장 짧은 posting 을 기준으로 교집합 (나머지는 이진 탐색)
+            lists.sort(Comparator.comparingInt(p -> p.size));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(BY_RANK); // 최소 힙: 상위 limit + 1 개 유지
+            Posting driver = lists.get(0);
+            int matched = 0;
+            int scanned = 0;
+            for (int i = driver.size - 1; i >= 0 && matched < MAX_CANDIDATES && scanned < MAX_SCANNED; i--, scanned++) {
+                int score = score(driver.ords[i], driver.weights[i], lists, group);
+                if (score < 0) continue;
+                matched++;
+                offer(top, new Hit(docIds[driver.ords[i]], score), cursorScore, cursorDocId, limit);
+            }
+
+            if (top.isEmpty()) return SearchHits.EMPTY;
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(Collections.reverseOrder(BY_RANK));
+            boolean hasNext = ranked.size() > limit;
+            List<Hit> page = hasNext ? ranked.subList(0, limit) : ranked;
+            Hit last = page.get(page.size() - 1);
+            return new SearchHits(page.stream().map(h -> h.docId).toList(), hasNext, last.score, last.docId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기준 문서(ord)가 나머지 토큰도 모두 포함하면 가중치 합, 아니면 -1 (첫 posting 은 driver 로 이미 포함)
+    private int score(int ord, int base, List<Posting> lists, Long group) {
+        if (!live.get(ord)) return -1;
+        if (group != null && groups[ord] != group) return -1;
+        int score = base;
+        for (int i = 1; i < lists.size(); i++) {
+            int w = lists.get(i).weightOf(ord);
+            if (w == 0) return -1;
+            score += w;
+        }
+        return score;
+    }
+
+    // 커서 이후 순위만 상위 limit + 1 개로 유지
+    private static void offer(PriorityQueue<Hit> top, Hit hit, Integer cursorScore, Long cursorDocId, int limit) {
+        if (cursorScore != null && (hit.score > cursorScore
+                || (hit.score == cursorScore && hit.docId >= cursorDocId))) {
+            return;
+        }
+        top.offer(hit);
+        if (top.size() > limit + 1) top.poll();
+    }
+
+    private void kill(int ord) {
+        if (ord < 0) return;
+        live.clear(ord);
+        dead++;
+    }
+
+    // 죽은 번호가 살아 있는 문서의 1/4 를 넘으면 번호를 다시 매기고 posting 에서 제거
+    private void compactIfNeeded() {
+        if (dead < COMPACT_MIN_DEAD || dead < ordinals.size() / 4) return;
+
+        int[] remap = new int[nextOrdinal];
+        Arrays.fill(remap, -1);
+        int count = ordinals.size();
+        long[] newDocIds = new long[Math.max(1024, count * 2)];
+        long[] newGroups = new long[newDocIds.length];
+        LongIntHashMap newOrdinals = new LongIntHashMap(count);
+        int n = 0;
+        for (int ord = live.nextSetBit(0); ord >= 0; ord = live.nextSetBit(ord + 1)) {
+            remap[ord] = n;
+            newDocIds[n] = docIds[ord];
+            newGroups[n] = groups[ord];
+            newOrdinals.put(docIds[ord], n);
+            n++;
+        }
+
+        remapAll(postings, remap);
+        remapAll(charPostings, remap);
+
+        docIds = newDocIds;
+        groups = newGroups;
+        ordinals = newOrdinals;
+        live.clear();
+        live.set(0, n);
+        nextOrdinal = n;
+        dead = 0;
+    }
+
+    private static void remapAll(Map<?, Posting> postings, int[] remap) {
+        Iterator<Posting> it = postings.values().iterator();
+        while (it.hasNext()) {
+            Posting posting = it.next();
+            posting.remap(remap);
+            if (posting.size == 0) it.remove();
+        }
+    }
+
+    private static final class Posting {
+        private int[] ords = new int[4];
+        private byte[] weights = new byte[4];
+        private int size;
+
+        // 내부 번호는 항상 증가하므로 뒤에 붙이기만 하면 정렬 유지
+        void append(int ord, int weight) {
+            if (size == ords.length) {
+                ords = Arrays.copyOf(ords, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ords[size] = ord;
+            weights[size] = (byte) Math.min(weight, Byte.MAX_VALUE);
+            size++;
+        }
+
+        // 없으면 0 (가중치는 항상 1 이상)
+        int weightOf(int ord) {
+            int i = Arrays.binarySearch(ords, 0, size, ord);
+            return i >= 0 ? weights[i] : 0;
+        }
+
+        // 죽은 번호 제거 + 새 번호로 (remap 은 단조 증가라 정렬 유지)
+        void remap(int[] remap) {
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                int ord = remap[ords[i]];
+                if (ord < 0) continue;
+                ords[n] = ord;
+                weights[n] = weights[i];
+                n++;
+            }
+            size = n;
+            if (ords.length > Math.max(4, n * 2)) {
+                ords = Arrays.copyOf(ords, Math.max(4, n));
+                weights = Arrays.copyOf(weights, Math.max(4, n));
+            }
+        }
+    }
+
+    private static final class Hit {
+        private final long docId;
+        private final int score;
+
+        private Hit(long docId, int score) {
+            this.docId = docId;
+            this.score = score;
+        }
+    }
+}
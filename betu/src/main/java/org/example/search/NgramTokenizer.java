@@ -0,0 +1,69 @@
+package org.example.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한국어 대응 bigram 토크나이저.
+ * 형태소 분석 없이 공백/문장부호로 단어를 나눈 뒤 2글자 단위로 잘라서
+ * "물마시기" 같은 붙여 쓴 한글도 부분 문자열("마시")로 검색되게 한다.
+ * 한 글자 단어는 그대로 토큰으로 사용하고, 한 글자 검색어는 InvertedIndex 의 글자별 posting 으로 찾는다.
+ * 본문은 앞부분 MAX_BODY_CHARS 글자만 색인 (긴 @Lob 본문 때문에 색인 메모리가 커지지 않도록).
+ */
+final class NgramTokenizer {
+
+    static final int GRAM = 2;
+    private static final int MAX_BODY_CHARS = 1000;
+
+    private NgramTokenizer() {
+    }
+
+    // 문서용: 토큰 -> 등장 횟수 * weight
+    static void addTerms(Map<String, Integer> target, String text, int weight) {
+        if (text == null || text.isBlank()) return;
+        for (String word : words(text)) {
+            for (String term : grams(word)) {
+                target.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    // 검색어용: 중복 없는 토큰 집합
+    static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query == null || query.isBlank()) return terms;
+        for (String word : words(query)) {
+            terms.addAll(grams(word));
+        }
+        return terms;
+    }
+
+    static Map<String, Integer> terms(String title, int titleWeight, String body) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, title, titleWeight);
+        addTerms(terms, (body != null && body.length() > MAX_BODY_CHARS) ? body.substring(0, MAX_BODY_CHARS) : body, 1);
+        return terms;
+    }
+
+    private static String[] words(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.split("[^\\p{L}\\p{N}]+");
+    }
+
+    private static Set<String> grams(String word) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (word.isEmpty()) return grams;
+        if (word.length() <= GRAM) {
+            grams.add(word);
+            return grams;
+        }
+        for (int i = 0; i + GRAM <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** 검색 결과: 점수 내림차순 문서 id + 다음 페이지 존재 여부 + 마지막 결과 (다음 페이지 keyset 커서) */
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+    static final SearchHits EMPTY = new SearchHits(List.of(), false, 0, 0L);
+
+    private List<Long> ids;
+    private boolean hasNext;
+    private int lastScore;
+    private long lastId;
+}
@@ -0,0 +1,117 @@
+package org.example.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.challenge.entity.Challenge;
+import org.example.challenge.repository.ChallengeRepository;
+import org.example.community.entity.Post;
+import org.example.community.repository.PostRepository;
+import org.example.general.TransactionHooks;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챌린지/게시글 전문 검색용 인메모리 역색인.
+ * 기동 시 DB 에서 전체 색인을 만들고(readiness 이전), 이후에는 생성/수정/삭제 시점에 커밋 후 증분 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService implements ApplicationRunner {
+
+    private static final int TITLE_WEIGHT = 3;   // 제목 매칭 가중치 (본문 1)
+    private static final int NO_GROUP = 0;       // crew 없는 게시글 (crewId 는 1부터 시작)
+    private static final int BOOTSTRAP_CHUNK = 1000;
+
+    private final ChallengeRepository challengeRepository;
+    private final PostRepository postRepository;
+
+    private final InvertedIndex challengeIndex = new InvertedIndex();
+    private final InvertedIndex postIndex = new InvertedIndex();
+
+    // ===== 검색 =====
+
+    /** cursor 는 이전 페이지 마지막 결과의 (점수, id), 첫 페이지면 null */
+    public SearchHits searchChallenges(String query, long[] cursor, int limit) {
+        return challengeIndex.search(NgramTokenizer.queryTerms(query), null,
+                cursorScore(cursor), cursorId(cursor), limit);
+    }
+
+    /** crewId 가 null 이면 crew 없는(전체 공개) 게시글만, 있으면 해당 crew 게시글만 */
+    public SearchHits searchPosts(String query, Long crewId, long[] cursor, int limit) {
+        return postIndex.search(NgramTokenizer.queryTerms(query), groupOf(crewId),
+                cursorScore(cursor), cursorId(cursor), limit);
+    }
+
+    // ===== 증분 색인 (커밋 후 반영) =====
+
+    public void indexChallenge(Challenge c) {
+        Long id = c.getChallengeId();
+        Map<String, Integer> terms = NgramTokenizer.terms(c.getChallengeName(), TITLE_WEIGHT, c.getChallengeDescription());
+        TransactionHooks.afterCommit(() -> challengeIndex.upsert(id, NO_GROUP, terms));
+    }
+
+    public void removeChallenge(Long challengeId) {
+        TransactionHooks.afterCommit(() -> challengeIndex.remove(challengeId));
+    }
+
+    public void indexPost(Post p) {
+        Long id = p.getPostId();
+        long group = groupOf(p.getCrew() != null ? p.getCrew().getCrewId() : null);
+        Map<String, Integer> terms = NgramTokenizer.terms(p.getPostTitle(), TITLE_WEIGHT, p.getPostContent());
+        TransactionHooks.afterCommit(() -> postIndex.upsert(id, group, terms));
+    }
+
+    public void removePost(Long postId) {
+        TransactionHooks.afterCommit(() -> postIndex.remove(postId));
+    }
+
+    // ===== 기동 시 전체 색인 =====
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = challengeRepository.findIndexSourceAfter(lastId, PageRequest.of(0, BOOTSTRAP_CHUNK));
+            for (Object[] row : rows) {
+                lastId = (Long) row[0];
+                challengeIndex.upsert(lastId, NO_GROUP,
+                        NgramTokenizer.terms((String) row[1], TITLE_WEIGHT, (String) row[2]));
+            }
+            if (rows.size() < BOOTSTRAP_CHUNK) break;
+        }
+
+        lastId = 0L;
+        while (true) {
+            List<Object[]> rows = postRepository.findIndexSourceAfter(lastId, PageRequest.of(0, BOOTSTRAP_CHUNK));
+            for (Object[] row : rows) {
+                lastId = (Long) row[0];
+                postIndex.upsert(lastId, groupOf((Long) row[1]),
+                        NgramTokenizer.terms((String) row[2], TITLE_WEIGHT, (String) row[3]));
+            }
+            if (rows.size() < BOOTSTRAP_CHUNK) break;
+        }
+
+        log.info("검색 색인 완료: challenges={}, posts={}, {}ms",
+                challengeIndex.size(), postIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    private static Integer cursorScore(long[] cursor) {
+        return cursor == null ? null : (int) cursor[0];
+    }
+
+    private static Long cursorId(long[] cursor) {
+        return cursor == null ? null : cursor[1];
+    }
+
+    private static long groupOf(Long crewId) {
+        return crewId == null ? NO_GROUP : crewId;
+    }
+}
@@ -22,7 +22,7 @@ public class User {
     private String userPassword;
 
     @Builder.Default
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false) // PointLedgerService 의 원자적 update 로만 변경
     private Long point = 0L;
 
     private String refreshToken;
@@ -53,30 +53,11 @@ public class User {
         this.userPassword = newPassword;
     }
 
-    public void addPoint(long amount) {
-        this.point += amount;
-    }
-
-    public void subtractPoint(long amount) {
-        if (this.point < amount) {
-            throw new IllegalStateException("포인트 부족");
-        }
-        this.point -= amount;
-    }
-
     /** 현재 보유 포인트 확인 */
     public long getCurrentPoint() {
         return this.point;
     }
 
-    /** 테스트/관리자용 포인트 충전 (제한 없이 더함) */
-    public void forceSetPoint(long newPoint) {
-        if (newPoint < 0) {
-            throw new IllegalArgumentException("포인트는 음수가 될 수 없습니다.");
-        }
-        this.point = newPoint;
-    }
-
     public void updateUserName(String userName) {
         this.userName = userName;
     }
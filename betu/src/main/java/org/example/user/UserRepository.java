@@ -1,8 +1,7 @@
 package org.example.user;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,7 +15,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserEmail(String email);
     Optional<User> findByRefreshToken(String refreshToken);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select u from User u where u.userId = :id")
-    Optional<User> findByIdForUpdate(@Param("id") Long id);
+    // ===== 포인트 잔액 (PointLedgerService 에서만 호출, 행 잠금 조회 없이 원자적 update) =====
+
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.point = u.point + :amount where u.userId = :userId")
+    int creditPoint(@Param("userId") Long userId, @Param("amount") long amount);
+
+    // 잔액이 amount 이상일 때만 차감 (0건이면 잔액 부족)
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.point = u.point - :amount where u.userId = :userId and u.point >= :amount")
+    int debitPoint(@Param("userId") Long userId, @Param("amount") long amount);
+
+    @Query("select u.point from User u where u.userId = :userId")
+    Optional<Long> findPointByUserId(@Param("userId") Long userId);
 }
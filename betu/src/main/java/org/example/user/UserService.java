@@ -6,6 +6,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.general.jwt.JwtProvider;
+import org.example.general.jwt.JwtRequestContext;
+import org.example.general.jwt.PrincipalCache;
+import org.example.money.PointLedger;
+import org.example.money.PointLedgerService;
 import org.example.user.dto.*;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,8 +24,16 @@ public class UserService {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final PointLedgerService pointLedgerService;
 
     public Long getUserIdFromToken(HttpServletRequest request) {
+        // 필터에서 이미 검증한 토큰이 있으면 재검증 없이 사용
+        var decoded = JwtRequestContext.getDecodedAccessToken(request);
+        if (decoded.isPresent()) {
+            return jwtProvider.extractUserId(decoded.get())
+                    .orElseThrow(() -> new RuntimeException("토큰에서 유저 아이디를 찾을 수 없습니다."));
+        }
         String accessToken = request.getHeader("Authorization").substring(7); // "Bearer "를 제외한 토큰
         return jwtProvider.extractUserId(accessToken).orElseThrow(() -> new RuntimeException("토큰에서 유저 아이디를 찾을 수 없습니다."));
     }
@@ -70,6 +82,7 @@ public class UserService {
 
         user.updateRefreshToken(refreshToken);
         userRepository.save(user);
+        principalCache.evictAfterCommit(user.getUserId()); // 리프레시 토큰 교체
     }
 
     public void changePassword(ChangePasswordRequestDto requestDto) {
@@ -84,6 +97,7 @@ public class UserService {
 
         user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
         userRepository.save(user);
+        principalCache.evictAfterCommit(userId);
     }
 
     public Long getCurrentUserId() {
@@ -97,18 +111,14 @@ public class UserService {
     /** 현재 유저 포인트 확인 */
     @Transactional
     public long getUserPoint(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
-        return user.getCurrentPoint();
+        return pointLedgerService.balance(userId);
     }
 
     /** (테스트/관리자용) 유저에게 포인트 추가 */
     @Transactional
     public long grantTestPoint(Long userId, long amount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
-        user.forceSetPoint(amount);
-        return user.getCurrentPoint();
+        pointLedgerService.credit(userId, amount, PointLedger.Type.ADMIN_GRANT, null);
+        return pointLedgerService.balance(userId);
     }
 
     /** 유저를 관리자(ADMIN)로 승격 */
@@ -116,6 +126,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
         user.makeAdmin(); // 👈 role 업데이트
+        principalCache.evictAfterCommit(userId);
     }
 
 }
@@ -0,0 +1,11 @@
+package org.example.verification_image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkModerationResponse {
+    private int approvedCount;
+    private int rejectedCount;
+}
@@ -0,0 +1,101 @@
+package org.example.verification_image;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 64bit 지각 해시용 BK-tree (거리 = 해밍 거리).
+ * 삼각 부등식으로 |d(node, q) - d(node, child)| <= maxDistance 인 가지만 내려가므로
+ * 챌린지당 수천 장이어도 거리 계산은 일부 노드에서만 일어난다.
+ */
+class HammingBkTree {
+
+    private Node root;
+    private int size;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void add(long hash, long imageId) {
+        lock.writeLock().lock();
+        try {
+            if (root == null) {
+                root = new Node(hash, imageId);
+                size++;
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int d = distance(node.hash, hash);
+                if (d == 0) return; // 같은 해시는 처음 올라온 이미지로 대표
+                Node child = node.children.get(d);
+                if (child == null) {
+                    node.children.put(d, new Node(hash, imageId));
+                    size++;
+                    return;
+                }
+                node = child;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** maxDistance 이내에서 가장 가까운 이미지 id (없으면 null, 거리가 같으면 먼저 찾은 것) */
+    Long findNearest(long hash, int maxDistance) {
+        lock.readLock().lock();
+        try {
+            if (root == null) return null;
+            Long best = null;
+            int bestDistance = maxDistance + 1;
+
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                int d = distance(node.hash, hash);
+                if (d < bestDistance) {
+                    best = node.imageId;
+                    bestDistance = d;
+                    if (d == 0) break;
+                }
+                int radius = bestDistance - 1; // 지금보다 가까운 것만 찾으면 됨
+                for (Map.Entry<Integer, Node> e : node.children.entrySet()) {
+                    int edge = e.getKey();
+                    if (edge >= d - radius && edge <= d + radius) {
+                        stack.push(e.getValue());
+                    }
+                }
+            }
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static final class Node {
+        private final long hash;
+        private final long imageId;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(long hash, long imageId) {
+            this.hash = hash;
+            this.imageId = imageId;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.verification_image;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.general.CursorPageResponse;
+import org.example.general.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 관리자/크루 오너별 인증 검토 큐 첫 페이지 캐시 (LRU + TTL).
+ * 검토 화면을 열 때마다 같은 큐를 다시 읽지 않도록 하고,
+ * 승인/거절/업로드로 큐가 바뀌면 해당 크루 오너와 관리자 항목을 커밋 후 제거한다.
+ */
+@Component
+public class ModerationQueueCache {
+
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+
+    public ModerationQueueCache(MeterRegistry meterRegistry,
+                                @Value("${verification.moderation-cache.max-size:1000}") int maxSize,
+                                @Value("${verification.moderation-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+        Gauge.builder("verification.moderation.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    Optional<CursorPageResponse<VerificationImageResponse>> get(Long moderatorId, VerificationStatus status, int size) {
+        Entry cached = entries.get(new Key(moderatorId, status, size));
+        if (cached == null || cached.expiresAt() <= System.currentTimeMillis()) return Optional.empty();
+        return Optional.of(cached.page());
+    }
+
+    void put(Long moderatorId, boolean admin, VerificationStatus status, int size,
+             CursorPageResponse<VerificationImageResponse> page) {
+        entries.put(new Key(moderatorId, status, size),
+                new Entry(page, admin, System.currentTimeMillis() + ttlMillis));
+    }
+
+    // 크루 오너들 + 모든 관리자 항목 제거 (관리자는 전체 큐를 보므로 항상 영향받음)
+    void evictAfterCommit(Collection<Long> ownerIds) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (entries) {
+                entries.entrySet().removeIf(e -> e.getValue().admin() || ownerIds.contains(e.getKey().moderatorId()));
+            }
+        });
+    }
+
+    private record Key(Long moderatorId, VerificationStatus status, int size) {
+    }
+
+    private record Entry(CursorPageResponse<VerificationImageResponse> page, boolean admin, long expiresAt) {
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.verification_image;
+
+import org.example.general.TransactionHooks;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 챌린지별 인증 이미지 검토 임대(lease): imageId -> reviewerId (Redis, 항목별 TTL).
+ * 한 이미지는 임대 시간 동안 한 검토자에게만 배정되고, 검토하지 않으면 만료 후 다시 배정된다.
+ */
+@Component
+public class ReviewLeaseStore {
+
+    private static final String KEY_PREFIX = "verification:review-lease:";
+
+    private final RedissonClient redisson;
+    private final long leaseSeconds;
+
+    public ReviewLeaseStore(RedissonClient redisson,
+                            @Value("${verification.review.lease-seconds:300}") long leaseSeconds) {
+        this.redisson = redisson;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /** 비어 있으면 임대, 이미 내 임대면 연장. 다른 검토자가 잡고 있으면 false */
+    boolean tryAcquire(Long challengeId, Long imageId, Long reviewerId) {
+        RMapCache<Long, Long> leases = leases(challengeId);
+        Long holder = leases.putIfAbsent(imageId, reviewerId, leaseSeconds, TimeUnit.SECONDS);
+        if (holder == null) return true;
+        if (!holder.equals(reviewerId)) return false;
+        leases.fastPut(imageId, reviewerId, leaseSeconds, TimeUnit.SECONDS);
+        return true;
+    }
+
+    // 검토 결과가 커밋된 뒤 임대 해제
+    void releaseAfterCommit(Long challengeId, Collection<Long> imageIds) {
+        if (imageIds.isEmpty()) return;
+        Long[] ids = imageIds.toArray(Long[]::new);
+        TransactionHooks.afterCommit(() -> leases(challengeId).fastRemove(ids));
+    }
+
+    private RMapCache<Long, Long> leases(Long challengeId) {
+        return redisson.getMapCache(KEY_PREFIX + challengeId, LongCodec.INSTANCE);
+    }
+}
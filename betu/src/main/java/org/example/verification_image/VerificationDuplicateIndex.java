@@ -0,0 +1,87 @@
+package org.example.verification_image;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.general.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 챌린지별 인증 이미지 지각 해시(dHash) 인메모리 BK-tree.
+ * 처음 조회할 때 DB 의 해시로 채우고, 이후에는 업로드 커밋 후 증분 반영한다.
+ * 로드 중에 커밋된 업로드는 대기 큐에 모았다가 트리를 게시한 뒤 반영한다 (같은 해시 중복 추가는 무시됨).
+ * 재업로드/거의 같은 사진을 업로드 시점에 표시만 하고, 판단은 검토자가 한다.
+ */
+@Slf4j
+@Component
+public class VerificationDuplicateIndex {
+
+    private final VerificationImageRepository verificationImageRepository;
+    private final int maxDistance;
+    private final Map<Long, HammingBkTree> trees = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<long[]>> pendingAdds = new ConcurrentHashMap<>(); // 로드 중인 챌린지의 {hash, imageId}
+
+    public VerificationDuplicateIndex(VerificationImageRepository verificationImageRepository,
+                                      @Value("${verification.duplicate.max-distance:6}") int maxDistance,
+                                      MeterRegistry meterRegistry) {
+        this.verificationImageRepository = verificationImageRepository;
+        this.maxDistance = maxDistance;
+        meterRegistry.gaugeMapSize("verification.duplicate.index.challenges", List.of(), trees);
+    }
+
+    /** 해밍 거리 maxDistance 이내의 기존 인증 이미지 id (없으면 null) */
+    public Long findNearDuplicate(Long challengeId, long hash) {
+        return tree(challengeId).findNearest(hash, maxDistance);
+    }
+
+    // 큐 -> 트리 순서로 확인: 트리가 아직 없으면 로드 전에 커밋된 것(로드가 읽음)이거나 큐에 들어가 게시 후 반영됨
+    public void addAfterCommit(Long challengeId, long hash, Long imageId) {
+        TransactionHooks.afterCommit(() -> {
+            Queue<long[]> pending = pendingAdds.get(challengeId);
+            if (pending != null) pending.add(new long[]{hash, imageId});
+            HammingBkTree tree = trees.get(challengeId);
+            if (tree != null) tree.add(hash, imageId);
+        });
+    }
+
+    public void evictAfterCommit(Long challengeId) {
+        TransactionHooks.afterCommit(() -> trees.remove(challengeId));
+    }
+
+    // computeIfAbsent 안에서 DB 를 읽으면 그동안 커밋된 추가가 트리 없음으로 빠지므로 밖에서 로드 후 게시
+    private HammingBkTree tree(Long challengeId) {
+        HammingBkTree tree = trees.get(challengeId);
+        if (tree != null) return tree;
+
+        Queue<long[]> pending = pendingAdds.computeIfAbsent(challengeId, id -> new ConcurrentLinkedQueue<>());
+        try {
+            HammingBkTree loaded = load(challengeId);
+            HammingBkTree existing = trees.putIfAbsent(challengeId, loaded);
+            if (existing != null) return existing; // 다른 요청이 먼저 게시
+
+            for (long[] add; (add = pending.poll()) != null; ) {
+                loaded.add(add[0], add[1]);
+            }
+            return loaded;
+        } finally {
+            pendingAdds.remove(challengeId, pending);
+        }
+    }
+
+    private HammingBkTree load(Long challengeId) {
+        long started = System.currentTimeMillis();
+        HammingBkTree tree = new HammingBkTree();
+        for (Object[] row : verificationImageRepository.findPerceptualHashesByChallengeId(challengeId)) {
+            tree.add((Long) row[1], (Long) row[0]);
+        }
+        log.debug("인증 이미지 해시 색인 로드 challengeId={} size={} ({}ms)",
+                challengeId, tree.size(), System.currentTimeMillis() - started);
+        return tree;
+    }
+}
@@ -15,6 +15,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 유저챌린지별 인증 이력 / 오늘 인증 여부 (uploadedAt 범위)
+        @Index(name = "idx_verification_image_uc_uploaded", columnList = "user_challenge_id, uploadedAt"),
+        // 상태별 검토 큐 keyset
+        @Index(name = "idx_verification_image_status_id", columnList = "verificationStatus, certificationImageId")
+})
 public class VerificationImage {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,8 +36,21 @@ public class VerificationImage {
     private VerificationStatus verificationStatus = VerificationStatus.PENDING; // 기본값
 
     private String imageUrl;
+
+    @Column(length = 1000)
+    private String mediumUrl;
+
+    @Column(length = 1000)
+    private String thumbnailUrl;
+
     private LocalDateTime uploadedAt;
 
+    // 지각 해시(dHash 64bit), 디코딩 불가 이미지는 null
+    private Long perceptualHash;
+
+    // 업로드 시점에 거의 같은 사진으로 판단된 같은 챌린지의 기존 인증 이미지 (검토 참고용)
+    private Long duplicateOfImageId;
+
     public void markVerified() {
         this.verificationStatus = VerificationStatus.APPROVED;
     }
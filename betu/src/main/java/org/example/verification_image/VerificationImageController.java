@@ -3,6 +3,7 @@ package org.example.verification_image;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.example.general.CursorPageResponse;
 import org.example.user.UserService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -33,12 +34,13 @@ public class VerificationImageController {
     }
 
     @GetMapping("/{challengeId}/pending")
+    @Operation(summary = "검토할 인증 이미지 배정", description = "오래된 대기 이미지부터 최대 3장을 임대로 배정 (본인 제출 제외, 다른 검토자와 겹치지 않음)")
     public ResponseEntity<List<VerificationImageReviewResponse>> getLatestPending(
             HttpServletRequest request,
             @PathVariable Long challengeId
     ) {
         Long reviewerId = userService.getUserIdFromToken(request);
-        return ResponseEntity.ok(verificationImageService.getLatestPendingImages(challengeId, reviewerId));
+        return ResponseEntity.ok(verificationImageService.assignPendingImages(challengeId, reviewerId));
     }
 
     @PostMapping("/{challengeId}/review")
@@ -54,17 +56,32 @@ public class VerificationImageController {
 
 
     @GetMapping("/pending")
-    @Operation(summary = "내가 처리 가능한 인증 대기 목록 조회(관리자/크루오너)")
-    public ResponseEntity<List<VerificationImageResponse>> pending(HttpServletRequest request) {
+    @Operation(summary = "내가 처리 가능한 인증 대기 목록 조회(관리자/크루오너, 커서 페이지)")
+    public ResponseEntity<CursorPageResponse<VerificationImageResponse>> pending(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
         Long me = userService.getUserIdFromToken(request);
-        return ResponseEntity.ok(verificationImageService.getMyPendingImages(me));
+        return ResponseEntity.ok(verificationImageService.getMyPendingImages(me, cursor, size));
     }
 
     @GetMapping("/rejected")
-    @Operation(summary = "내가 처리 가능한 인증 거절 목록 조회(관리자/크루오너)")
-    public ResponseEntity<List<VerificationImageResponse>> rejected(HttpServletRequest request) {
+    @Operation(summary = "내가 처리 가능한 인증 거절 목록 조회(관리자/크루오너, 커서 페이지)")
+    public ResponseEntity<CursorPageResponse<VerificationImageResponse>> rejected(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long me = userService.getUserIdFromToken(request);
+        return ResponseEntity.ok(verificationImageService.getMyRejectedImages(me, cursor, size));
+    }
+
+    @PostMapping("/moderate")
+    @Operation(summary = "인증 일괄 승인/거절(관리자/크루오너)", description = "reviews[].approved 가 false 인 이미지는 거절되고 참가 기록은 FAILED")
+    public ResponseEntity<BulkModerationResponse> moderate(HttpServletRequest request, @RequestBody ReviewRequest req) {
         Long me = userService.getUserIdFromToken(request);
-        return ResponseEntity.ok(verificationImageService.getMyRejectedImages(me));
+        return ResponseEntity.ok(verificationImageService.moderate(me, req));
     }
 
     @PostMapping("/{imageId}/approve")
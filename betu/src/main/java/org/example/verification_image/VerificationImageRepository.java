@@ -1,28 +1,116 @@
 package org.example.verification_image;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface VerificationImageRepository extends JpaRepository<VerificationImage, Long> {
     void deleteAllByUserChallenge_Challenge_ChallengeId(Long challengeId);
 
+    // 검토 큐 (keyset: certificationImageId 오름차순 = 오래된 것부터)
+    // 관리자는 전체, 그 외에는 자기가 OWNER 인 크루의 (PUBLIC 이 아닌) 챌린지 이미지만 SQL 에서 거름
     @Query("""
         select vi
           from VerificationImage vi
           join fetch vi.userChallenge uc
+          join fetch uc.user u
           join fetch uc.challenge ch
           left join fetch ch.crew c
          where vi.verificationStatus = :status
-         order by vi.uploadedAt asc
+           and (:cursorId is null or vi.certificationImageId > :cursorId)
+           and (:admin = true
+                or (ch.challengeScope <> org.example.challenge.entity.ChallengeScope.PUBLIC
+                    and exists (select 1
+                                  from UserCrew own
+                                 where own.crew = c
+                                   and own.user.userId = :moderatorId
+                                   and own.userCrewRole = org.example.crew.entity.UserCrewRole.OWNER)))
+         order by vi.certificationImageId asc
     """)
-    List<VerificationImage> findAllByStatusWithChallengeAndCrew(@Param("status") VerificationStatus status);
+    List<VerificationImage> findModerationPage(@Param("status") VerificationStatus status,
+                                               @Param("moderatorId") Long moderatorId,
+                                               @Param("admin") boolean admin,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
 
-    List<VerificationImage> findTop3ByUserChallenge_Challenge_ChallengeIdAndVerificationStatusOrderByUploadedAtDesc(Long challengeId, VerificationStatus verificationStatus);
+    // 일괄 검토용: 이미지 + 챌린지 + 크루를 한 번에
+    @Query("""
+        select vi
+          from VerificationImage vi
+          join fetch vi.userChallenge uc
+          join fetch uc.challenge ch
+          left join fetch ch.crew c
+         where vi.certificationImageId in :ids
+    """)
+    List<VerificationImage> findAllWithChallengeAndCrewByIds(@Param("ids") Collection<Long> ids);
+
+    // 상태 일괄 변경 (권한 확인은 호출 측에서 끝낸 뒤)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update VerificationImage vi
+           set vi.verificationStatus = :status
+         where vi.certificationImageId in :ids
+    """)
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") VerificationStatus status);
+
+    // 검토 배정 후보: 챌린지의 대기 이미지 중 검토자 본인 제출 제외, 오래된(id 작은) 것부터
+    @Query("""
+        select vi
+          from VerificationImage vi
+          join vi.userChallenge uc
+         where uc.challenge.challengeId = :challengeId
+           and uc.user.userId <> :reviewerId
+           and vi.verificationStatus = org.example.verification_image.VerificationStatus.PENDING
+           and (:cursorId is null or vi.certificationImageId > :cursorId)
+         order by vi.certificationImageId asc
+    """)
+    List<VerificationImage> findPendingForReview(@Param("challengeId") Long challengeId,
+                                                 @Param("reviewerId") Long reviewerId,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    // 챌린지의 인증 이미지 지각 해시 [certificationImageId, perceptualHash] (중복 색인 로드용)
+    @Query("""
+        select vi.certificationImageId, vi.perceptualHash
+          from VerificationImage vi
+         where vi.userChallenge.challenge.challengeId = :challengeId
+           and vi.perceptualHash is not null
+         order by vi.certificationImageId asc
+    """)
+    List<Object[]> findPerceptualHashesByChallengeId(@Param("challengeId") Long challengeId);
+
+    // 참가 기록별 이번 회차(startedAt ~ endsAt) 에 승인된 인증 날짜 수 [userChallengeId, days]
+    // 하루에 여러 장 올려도 하루로 셈 (회차 시작 시점이 없는 예전 행은 기간 끝까지 전부)
+    @Query("""
+        select uc.userChallengeId, count(distinct cast(vi.uploadedAt as LocalDate))
+          from VerificationImage vi
+          join vi.userChallenge uc
+         where uc.userChallengeId in :userChallengeIds
+           and vi.verificationStatus = org.example.verification_image.VerificationStatus.APPROVED
+           and (uc.startedAt is null or vi.uploadedAt >= uc.startedAt)
+           and vi.uploadedAt < uc.endsAt
+         group by uc.userChallengeId
+    """)
+    List<Object[]> countApprovedDaysInRun(@Param("userChallengeIds") Collection<Long> userChallengeIds);
 
     boolean existsByUserChallenge_User_UserIdAndUserChallenge_Challenge_ChallengeIdAndUploadedAtBetween(
             Long userId, Long challengeId, LocalDateTime startOfDay, LocalDateTime endOfDay);
+
+    // 유저가 기간 안에 인증한 챌린지 id (내 챌린지 목록의 오늘 인증 여부를 한 번에)
+    @Query("""
+        select distinct uc.challenge.challengeId
+          from VerificationImage vi
+          join vi.userChallenge uc
+         where uc.user.userId = :userId
+           and vi.uploadedAt between :from and :to
+    """)
+    List<Long> findVerifiedChallengeIds(@Param("userId") Long userId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
 }
@@ -18,6 +18,7 @@ public class VerificationImageResponse {
     private String crewName;
     private Long userId;
     private String userName;
+    private Long duplicateOfImageId; // 거의 같은 기존 인증 이미지 (없으면 null)
 
     public static VerificationImageResponse from(VerificationImage vi) {
         var uc = vi.getUserChallenge();
@@ -34,7 +35,8 @@ public class VerificationImageResponse {
                 (crew != null ? crew.getCrewId() : null),
                 (crew != null ? crew.getCrewName() : null),
                 user.getUserId(),
-                user.getUserName()
+                user.getUserName(),
+                vi.getDuplicateOfImageId()
         );
     }
 }
\ No newline at end of file
@@ -8,4 +8,5 @@ public class VerificationImageReviewResponse {
     private Long id;
     private String imageUrl;
     private VerificationStatus status;
+    private Long duplicateOfImageId; // 거의 같은 기존 인증 이미지 (없으면 null)
 }
@@ -8,58 +8,110 @@ import org.example.challenge.entity.UserChallenge;
 import org.example.challenge.entity.UserChallengeStatus;
 import org.example.challenge.repository.ChallengeRepository;
 import org.example.challenge.repository.UserChallengeRepository;
+import org.example.crew.entity.Crew;
 import org.example.crew.entity.UserCrewRole;
 import org.example.crew.repository.UserCrewRepository;
+import org.example.general.CursorCodec;
+import org.example.general.CursorPageResponse;
+import org.example.general.PagingPolicy;
 import org.example.general.S3Uploader;
+import org.example.general.UploadedImage;
 import org.example.user.User;
 import org.example.user.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class VerificationImageService {
+    private static final int REVIEW_ASSIGN_SIZE = 3;       // 한 번에 배정하는 이미지 수
+    private static final int REVIEW_CANDIDATE_CHUNK = 50;  // 임대 시도할 후보를 DB 에서 읽는 단위
+    private static final int REVIEW_MAX_CHUNKS = 20;       // 대부분 임대 중일 때 스캔 상한
+
     private final VerificationImageRepository verificationImageRepository;
     private final UserChallengeRepository userChallengeRepository;
     private final S3Uploader s3Uploader; // S3 업로드 유틸 (이미 구현했다고 가정)
     private final UserRepository userRepository;
     private final ChallengeRepository challengeRepository;
     private final UserCrewRepository userCrewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VerificationDuplicateIndex duplicateIndex;
+    private final ModerationQueueCache moderationQueueCache;
+    private final PagingPolicy pagingPolicy;
+    private final ReviewLeaseStore reviewLeaseStore;
 
     // 인증 이미지 업로드
+    // S3 업로드는 트랜잭션 밖에서, 인증 행 저장 + 진행일 증가만 업로드 후 짧은 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long uploadVerification(Long userId, Long challengeId, MultipartFile image) throws IOException {
-        UserChallenge userChallenge = userChallengeRepository
+        Long userChallengeId = userChallengeRepository
                 .findByUser_UserIdAndChallenge_ChallengeId(userId, challengeId)
+                .map(UserChallenge::getUserChallengeId)
                 .orElseThrow(() -> new RuntimeException("챌린지에 참가하지 않았습니다."));
 
-        // S3 업로드
-        String prefix = String.format("challenge/%d/user/%d", challengeId, userId);
-        String imageUrl = s3Uploader.uploadImageUnderPrefix(image, prefix);
+        if (image == null || image.isEmpty()) {
+            throw new IllegalArgumentException("인증 이미지가 비어 있습니다.");
+        }
 
-        VerificationImage vi = VerificationImage.builder()
-                .userChallenge(userChallenge)
-                .imageUrl(imageUrl)
-                .uploadedAt(LocalDateTime.now())
-                .build();
+        // S3 업로드 (지각 해시는 축소본과 같은 디코딩으로 계산)
+        String prefix = String.format("challenge/%d/user/%d", challengeId, userId);
+        UploadedImage uploaded = s3Uploader.uploadImageWithVariants(image, prefix);
+
+        // 같은 챌린지에 거의 같은 사진이 이미 있으면 표시 (거절은 검토자 판단)
+        Long hash = uploaded.getPerceptualHash();
+        Long duplicateOf = (hash != null) ? duplicateIndex.findNearDuplicate(challengeId, hash) : null;
+
+        return transactionTemplate.execute(status -> {
+            UserChallenge userChallenge = userChallengeRepository.findById(userChallengeId)
+                    .orElseThrow(() -> new RuntimeException("챌린지에 참가하지 않았습니다."));
+
+            VerificationImage vi = VerificationImage.builder()
+                    .userChallenge(userChallenge)
+                    .imageUrl(uploaded.getImageUrl())
+                    .mediumUrl(uploaded.getMediumUrl())
+                    .thumbnailUrl(uploaded.getThumbnailUrl())
+                    .uploadedAt(LocalDateTime.now())
+                    .perceptualHash(hash)
+                    .duplicateOfImageId(duplicateOf)
+                    .build();
+
+            verificationImageRepository.save(vi);
+            if (hash != null) {
+                duplicateIndex.addAfterCommit(challengeId, hash, vi.getCertificationImageId());
+            }
 
-        verificationImageRepository.save(vi);
+            s3Uploader.registerAfterCommit(List.of(uploaded));
 
-        userChallenge.increaseProgressDay();
-        userChallengeRepository.save(userChallenge);
+            userChallenge.increaseProgressDay();
+            userChallengeRepository.save(userChallenge);
+            evictModerationQueues(userChallenge.getChallenge());
 
-        return vi.getCertificationImageId();
+            return vi.getCertificationImageId();
+        });
     }
 
+    /**
+     * 검토자에게 대기 이미지를 배정 (오래된 것부터, 내 제출 제외).
+     * 배정된 이미지는 임대 시간 동안 다른 검토자에게 나가지 않아 동시 검토자끼리 겹치지 않고,
+     * 검토하지 않으면 임대가 만료돼 다음 검토자에게 다시 배정된다.
+     */
     @Transactional(readOnly = true)
-    public List<VerificationImageReviewResponse> getLatestPendingImages(Long challengeId, Long reviewerId) {
+    public List<VerificationImageReviewResponse> assignPendingImages(Long challengeId, Long reviewerId) {
         boolean isReviewerParticipating = userChallengeRepository
                 .existsByUser_UserIdAndChallenge_ChallengeIdAndUserChallengeStatus(
                         reviewerId, challengeId, UserChallengeStatus.IN_PROGRESS
@@ -69,10 +121,20 @@ public class VerificationImageService {
             throw new IllegalStateException("해당 챌린지에 참가 중이 아닙니다.");
         }
 
-        List<VerificationImage> pendingImages =
-                verificationImageRepository.findTop3ByUserChallenge_Challenge_ChallengeIdAndVerificationStatusOrderByUploadedAtDesc(
-                        challengeId, VerificationStatus.PENDING
-                );
+        List<VerificationImage> pendingImages = new ArrayList<>(REVIEW_ASSIGN_SIZE);
+        Long cursorId = null;
+        for (int scanned = 0; scanned < REVIEW_MAX_CHUNKS && pendingImages.size() < REVIEW_ASSIGN_SIZE; scanned++) {
+            List<VerificationImage> candidates = verificationImageRepository.findPendingForReview(
+                    challengeId, reviewerId, cursorId, PageRequest.of(0, REVIEW_CANDIDATE_CHUNK));
+            for (VerificationImage img : candidates) {
+                if (reviewLeaseStore.tryAcquire(challengeId, img.getCertificationImageId(), reviewerId)) {
+                    pendingImages.add(img);
+                    if (pendingImages.size() == REVIEW_ASSIGN_SIZE) break;
+                }
+            }
+            if (candidates.size() < REVIEW_CANDIDATE_CHUNK) break;
+            cursorId = candidates.get(candidates.size() - 1).getCertificationImageId();
+        }
 
         if (pendingImages.isEmpty()) {
             throw new IllegalStateException("대기 중인 인증 이미지가 없습니다.");
@@ -83,7 +145,8 @@ public class VerificationImageService {
                 .map(img -> new VerificationImageReviewResponse(
                         img.getCertificationImageId(),
                         img.getImageUrl(),
-                        img.getVerificationStatus()
+                        img.getVerificationStatus(),
+                        img.getDuplicateOfImageId()
                 ))
                 .toList();
     }
@@ -103,22 +166,30 @@ public class VerificationImageService {
             throw new IllegalArgumentException("검토할 이미지가 없습니다.");
         }
 
-        List<Long> imageIds = req.getReviews().stream()
-                .map(ReviewRequest.ReviewItem::getVerificationImageId)
-                .toList();
-
-        List<VerificationImage> images = verificationImageRepository.findAllById(imageIds);
-
         Map<Long, Boolean> decisionMap = req.getReviews().stream()
                 .collect(Collectors.toMap(
                         ReviewRequest.ReviewItem::getVerificationImageId,
                         ReviewRequest.ReviewItem::isApproved
                 ));
 
+        List<VerificationImage> images = verificationImageRepository.findAllById(decisionMap.keySet());
+        if (images.size() != decisionMap.size()) {
+            Set<Long> found = images.stream().map(VerificationImage::getCertificationImageId).collect(Collectors.toSet());
+            List<Long> missing = decisionMap.keySet().stream().filter(id -> !found.contains(id)).toList();
+            throw new EntityNotFoundException("인증 이미지 없음: " + missing);
+        }
+
         for (VerificationImage img : images) {
             if (!img.getUserChallenge().getChallenge().getChallengeId().equals(challengeId)) {
                 throw new IllegalStateException("해당 챌린지에 속하지 않는 이미지입니다: " + img.getCertificationImageId());
             }
+            if (img.getUserChallenge().getUser().getUserId().equals(reviewerId)) {
+                throw new IllegalStateException("본인 인증 이미지는 검토할 수 없습니다: " + img.getCertificationImageId());
+            }
+            // 배정받지 않은 이미지도 비어 있으면 지금 임대해서 검토 (다른 검토자가 잡고 있으면 거절)
+            if (!reviewLeaseStore.tryAcquire(challengeId, img.getCertificationImageId(), reviewerId)) {
+                throw new IllegalStateException("다른 검토자에게 배정된 이미지입니다: " + img.getCertificationImageId());
+            }
 
             boolean approved = decisionMap.getOrDefault(img.getCertificationImageId(), false);
             if (approved) {
@@ -127,50 +198,63 @@ public class VerificationImageService {
                 img.revokeVerification();
             }
         }
+        if (!images.isEmpty()) {
+            evictModerationQueues(images.get(0).getUserChallenge().getChallenge());
+        }
+        reviewLeaseStore.releaseAfterCommit(challengeId, decisionMap.keySet());
     }
 
+    // 내가 처리 가능한 검토 큐 (관리자: 전체, 크루 오너: 자기 크루 챌린지) - keyset 페이지
+    // 첫 페이지는 검토자별로 캐시하고, 큐가 바뀌면 evictModerationQueues 로 제거
     @Transactional(readOnly = true)
-    public List<VerificationImageResponse> getMyPendingImages(Long userId) {
-        User me = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
+    public CursorPageResponse<VerificationImageResponse> getMyPendingImages(Long userId, String cursor, Integer size) {
+        return getModerationQueue(userId, VerificationStatus.PENDING, cursor, size);
+    }
 
-        List<VerificationImage> all = verificationImageRepository.findAllByStatusWithChallengeAndCrew(VerificationStatus.PENDING);
+    @Transactional(readOnly = true)
+    public CursorPageResponse<VerificationImageResponse> getMyRejectedImages(Long userId, String cursor, Integer size) {
+        return getModerationQueue(userId, VerificationStatus.REJECTED, cursor, size);
+    }
 
-        List<VerificationImage> filtered;
-        if (me.isAdmin()) {
-            filtered = all;
-        } else {
-            filtered = all.stream()
-                    .filter(vi -> canModerate(me, vi))
-                    .toList();
+    private CursorPageResponse<VerificationImageResponse> getModerationQueue(
+            Long userId, VerificationStatus status, String cursor, Integer size) {
+        int pageSize = pagingPolicy.resolve(size);
+        long[] key = CursorCodec.decode(cursor, 1);
+        if (key == null) {
+            var cached = moderationQueueCache.get(userId, status, pageSize);
+            if (cached.isPresent()) return cached.get();
         }
 
-        // ✅ 여기서 DTO로 변환까지 처리
-        return filtered.stream()
-                .map(VerificationImageResponse::from)
-                .toList();
-    }
-
-    @Transactional(readOnly = true)
-    public List<VerificationImageResponse> getMyRejectedImages(Long userId) {
         User me = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
 
-        List<VerificationImage> all = verificationImageRepository.findAllByStatusWithChallengeAndCrew(VerificationStatus.REJECTED);
+        List<VerificationImage> rows = verificationImageRepository.findModerationPage(
+                status, userId, me.isAdmin(), key == null ? null : key[0], PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<VerificationImage> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).getCertificationImageId()) : null;
+        CursorPageResponse<VerificationImageResponse> response =
+                CursorPageResponse.of(page.stream().map(VerificationImageResponse::from).toList(), nextCursor);
 
-        List<VerificationImage> filtered;
-        if (me.isAdmin()) {
-            filtered = all;
-        } else {
-            filtered = all.stream()
-                    .filter(vi -> canModerate(me, vi))
-                    .toList();
+        if (key == null) {
+            moderationQueueCache.put(userId, me.isAdmin(), status, pageSize, response);
         }
+        return response;
+    }
 
-        // ✅ 여기서 DTO로 변환까지 처리
-        return filtered.stream()
-                .map(VerificationImageResponse::from)
-                .toList();
+    // 챌린지의 검토 큐가 바뀜: 해당 크루 오너들과 관리자의 캐시 제거 (커밋 후)
+    private void evictModerationQueues(Challenge challenge) {
+        evictModerationQueues(challenge.getCrew() == null ? List.of() : List.of(challenge.getCrew().getCrewId()));
+    }
+
+    private void evictModerationQueues(Collection<Long> crewIds) {
+        List<Long> ownerIds = crewIds.isEmpty()
+                ? List.of()
+                : userCrewRepository.findOwnersByCrewIds(crewIds).stream()
+                        .map(row -> (Long) row[1])
+                        .toList();
+        moderationQueueCache.evictAfterCommit(ownerIds);
     }
 
     /** 승인 */
@@ -183,6 +267,7 @@ public class VerificationImageService {
 
         assertCanModerate(me, vi);
         vi.markVerified();
+        evictModerationQueues(vi.getUserChallenge().getChallenge());
     }
 
     /** 거절 */
@@ -195,11 +280,71 @@ public class VerificationImageService {
 
         assertCanModerate(me, vi);
         vi.revokeVerification();
+        evictModerationQueues(vi.getUserChallenge().getChallenge());
+
+        // 진행 중인 참가만 실패 처리 (이미 정산된 참가는 그대로, 스케줄러 정산과 같은 조건부 전이)
+        userChallengeRepository.transitionStatus(
+                vi.getUserChallenge().getUserChallengeId(), UserChallengeStatus.IN_PROGRESS, UserChallengeStatus.FAILED);
+    }
+
+    /**
+     * 일괄 승인/거절 (관리자/크루오너).
+     * 이미지는 fetch join 한 번으로 읽고, 권한은 크루 단위로 한 번만 확인한 뒤 상태는 bulk update 로 반영.
+     * 거절된 이미지의 진행 중인 참가 기록은 단건 거절과 같이 FAILED 로 바꾼다.
+     */
+    public BulkModerationResponse moderate(Long userId, ReviewRequest req) {
+        if (req.getReviews() == null || req.getReviews().isEmpty()) {
+            throw new IllegalArgumentException("처리할 이미지가 없습니다.");
+        }
+
+        User me = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자 없음"));
+
+        Map<Long, Boolean> decisionMap = req.getReviews().stream()
+                .collect(Collectors.toMap(
+                        ReviewRequest.ReviewItem::getVerificationImageId,
+                        ReviewRequest.ReviewItem::isApproved,
+                        (a, b) -> b // 같은 이미지가 여러 번 오면 마지막 결정
+                ));
 
-        var uc = vi.getUserChallenge();
+        List<VerificationImage> images = verificationImageRepository.findAllWithChallengeAndCrewByIds(decisionMap.keySet());
+        if (images.size() != decisionMap.size()) {
+            Set<Long> found = images.stream().map(VerificationImage::getCertificationImageId).collect(Collectors.toSet());
+            List<Long> missing = decisionMap.keySet().stream().filter(id -> !found.contains(id)).toList();
+            throw new EntityNotFoundException("인증 이미지 없음: " + missing);
+        }
+
+        // 크루 단위 권한 확인 (관리자가 아니면 내가 OWNER 인 크루 목록을 한 번만 조회)
+        Set<Long> crewIds = new HashSet<>();
+        for (VerificationImage vi : images) {
+            Challenge ch = vi.getUserChallenge().getChallenge();
+            if (ch.getCrew() != null) crewIds.add(ch.getCrew().getCrewId());
+            if (!me.isAdmin() && (ch.getChallengeScope() == ChallengeScope.PUBLIC || ch.getCrew() == null)) {
+                throw new SecurityException("인증 이미지를 처리할 권한이 없습니다: " + vi.getCertificationImageId());
+            }
+        }
+        if (!me.isAdmin()) {
+            Set<Long> ownedCrewIds = userCrewRepository.findCrewsWithRoleByUserId(userId).stream()
+                    .filter(row -> row[1] == UserCrewRole.OWNER)
+                    .map(row -> ((Crew) row[0]).getCrewId())
+                    .collect(Collectors.toSet());
+            if (!ownedCrewIds.containsAll(crewIds)) {
+                throw new SecurityException("인증 이미지를 처리할 권한이 없습니다.");
+            }
+        }
+
+        List<Long> approveIds = decisionMap.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList();
+        List<Long> rejectIds = decisionMap.entrySet().stream().filter(e -> !e.getValue()).map(Map.Entry::getKey).toList();
+
+        int approved = approveIds.isEmpty() ? 0 : verificationImageRepository.updateStatus(approveIds, VerificationStatus.APPROVED);
+        int rejected = 0;
+        if (!rejectIds.isEmpty()) {
+            rejected = verificationImageRepository.updateStatus(rejectIds, VerificationStatus.REJECTED);
+            userChallengeRepository.updateStatusByVerificationImageIds(rejectIds, UserChallengeStatus.FAILED);
+        }
 
-        uc.changeStatus(UserChallengeStatus.FAILED);
-        userChallengeRepository.save(uc);
+        evictModerationQueues(crewIds);
+        return new BulkModerationResponse(approved, rejected);
     }
 
     private void assertCanModerate(User me, VerificationImage vi) {
@@ -0,0 +1,211 @@
+package org.example.challenge;
+
+import org.example.challenge.dto.BetAmountRequest;
+import org.example.challenge.entity.Challenge;
+import org.example.challenge.entity.ChallengeScope;
+import org.example.challenge.entity.ChallengeType;
+import org.example.challenge.entity.UserChallenge;
+import org.example.challenge.entity.UserChallengeRole;
+import org.example.challenge.entity.UserChallengeStatus;
+import org.example.challenge.repository.ChallengeRepository;
+import org.example.challenge.repository.UserChallengeRepository;
+import org.example.crew.CrewLeaderboardService;
+import org.example.general.PagingPolicy;
+import org.example.general.S3Uploader;
+import org.example.like.LikeCounterService;
+import org.example.money.PointLedger;
+import org.example.money.PointLedgerRepository;
+import org.example.money.PointLedgerService;
+import org.example.search.SearchIndexService;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.example.verification_image.VerificationDuplicateIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 참가/재참가가 베팅을 한 번만 차감하고 참가자 수를 요청 수만큼 세는지.
+ * 요청마다 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 지운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ChallengeService.class, PagingPolicy.class, PointLedgerService.class})
+class ChallengeJoinTest {
+
+    private static final int THREADS = 4;
+    private static final long BET = 1_000L;
+
+    @Autowired ChallengeService challengeService;
+    @Autowired UserRepository userRepository;
+    @Autowired ChallengeRepository challengeRepository;
+    @Autowired UserChallengeRepository userChallengeRepository;
+    @Autowired PointLedgerRepository pointLedgerRepository;
+
+    @MockBean VerificationDuplicateIndex verificationDuplicateIndex;
+    @MockBean S3Uploader s3Uploader;
+    @MockBean SearchIndexService searchIndexService;
+    @MockBean LikeCounterService likeCounterService;
+    @MockBean CrewLeaderboardService crewLeaderboardService;
+
+    private int userSeq;
+
+    @AfterEach
+    void cleanUp() {
+        pointLedgerRepository.deleteAllInBatch();
+        userChallengeRepository.deleteAllInBatch();
+        challengeRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 동시에_재참가해도_베팅은_한_번만_차감한다() throws Exception {
+        Challenge challenge = saveChallenge();
+        User user = saveUser(10 * BET);
+        UserChallenge previous = new UserChallenge(user, challenge, UserChallengeRole.PARTICIPANT);
+        previous.startRun(0L, LocalDateTime.now().minusDays(4), LocalDateTime.now().minusDays(1));
+        previous.changeStatus(UserChallengeStatus.FAILED);
+        userChallengeRepository.save(previous);
+
+        int joined = joinConcurrently(user, challenge);
+
+        assertThat(joined).isEqualTo(1);
+        assertThat(ledgerCount(user, PointLedger.Type.BET)).isEqualTo(1);
+        assertThat(userRepository.findPointByUserId(user.getUserId())).contains(9 * BET);
+        UserChallenge reopened = userChallengeRepository.findById(previous.getUserChallengeId()).orElseThrow();
+        assertThat(reopened.getUserChallengeStatus()).isEqualTo(UserChallengeStatus.IN_PROGRESS);
+        assertThat(reopened.getBetAmount()).isEqualTo(BET);
+        assertThat(participantCount(challenge)).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_처음_참가하면_한_요청만_행을_만든다() throws Exception {
+        Challenge challenge = saveChallenge();
+        User user = saveUser(10 * BET);
+
+        int joined = joinConcurrently(user, challenge);
+
+        assertThat(joined).isEqualTo(1);
+        assertThat(userChallengeRepository.findAll()).hasSize(1);
+        assertThat(ledgerCount(user, PointLedger.Type.BET)).isEqualTo(1);
+        assertThat(userRepository.findPointByUserId(user.getUserId())).contains(9 * BET);
+        assertThat(participantCount(challenge)).isEqualTo(1);
+    }
+
+    @Test
+    void 서로_다른_유저의_동시_참가는_모두_센다() throws Exception {
+        Challenge challenge = saveChallenge();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            users.add(saveUser(BET));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (User user : users) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return challengeService.joinChallenge(user.getUserId(), challenge.getChallengeId(), bet());
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(participantCount(challenge)).isEqualTo(THREADS);
+    }
+
+    // 같은 유저가 THREADS 개 요청으로 동시에 참가, 성공한 요청 수
+    private int joinConcurrently(User user, Challenge challenge) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            Callable<Object> join = () -> {
+                start.await();
+                return challengeService.joinChallenge(user.getUserId(), challenge.getChallengeId(), bet());
+            };
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(pool.submit(join));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Object> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException ignored) {
+                    // 이미 참가 중 (조건부 update 0행 또는 유니크 키 충돌) → 롤백
+                } catch (TimeoutException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            return succeeded;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static BetAmountRequest bet() {
+        BetAmountRequest request = new BetAmountRequest();
+        ReflectionTestUtils.setField(request, "betAmount", BET);
+        return request;
+    }
+
+    private Challenge saveChallenge() {
+        return challengeRepository.save(Challenge.builder()
+                .challengeScope(ChallengeScope.PUBLIC)
+                .challengeType(ChallengeType.DURATION)
+                .challengeName("참가 테스트")
+                .challengeDuration(3)
+                .build());
+    }
+
+    private User saveUser(long point) {
+        int seq = ++userSeq;
+        return userRepository.save(User.builder()
+                .userName("joiner" + seq)
+                .userEmail("joiner" + seq + "@betu.test")
+                .point(point)
+                .build());
+    }
+
+    private int participantCount(Challenge challenge) {
+        return challengeRepository.findById(challenge.getChallengeId()).orElseThrow().getChallengeParticipantCnt();
+    }
+
+    private long ledgerCount(User user, PointLedger.Type type) {
+        return pointLedgerRepository.findAll().stream()
+                .filter(l -> l.getUserId().equals(user.getUserId()) && l.getType() == type)
+                .count();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.challenge;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.challenge.dto.ChallengeResponse;
+import org.example.challenge.dto.ChallengeSort;
+import org.example.challenge.entity.Challenge;
+import org.example.challenge.entity.ChallengeImage;
+import org.example.challenge.entity.ChallengeScope;
+import org.example.challenge.entity.ChallengeType;
+import org.example.crew.CrewLeaderboardService;
+import org.example.general.CursorPageResponse;
+import org.example.general.PagingPolicy;
+import org.example.general.S3Uploader;
+import org.example.like.LikeCounterService;
+import org.example.money.PointLedgerService;
+import org.example.search.SearchIndexService;
+import org.example.verification_image.VerificationDuplicateIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 챌린지 목록 응답의 썸네일 조회가 목록 크기와 무관하게 같은 쿼리 수로 끝나는지 (N+1 회귀 방지) */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ChallengeService.class, PagingPolicy.class, PointLedgerService.class})
+class ChallengeListQueryCountTest {
+
+    @Autowired ChallengeService challengeService;
+    @Autowired TestEntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    @MockBean VerificationDuplicateIndex verificationDuplicateIndex;
+    @MockBean S3Uploader s3Uploader;
+    @MockBean SearchIndexService searchIndexService;
+    @MockBean LikeCounterService likeCounterService;
+    @MockBean CrewLeaderboardService crewLeaderboardService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void 목록_크기가_늘어도_쿼리_수는_같다() {
+        saveChallenges(3);
+        long small = countStatements(3);
+
+        saveChallenges(27);
+        long large = countStatements(30);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void 첫_번째_이미지의_썸네일을_응답에_담는다() {
+        saveChallenges(2);
+        em.clear();
+
+        CursorPageResponse<ChallengeResponse> page = challengeService.getAllChallenges(ChallengeSort.LATEST, null, 50);
+
+        assertThat(page.getItems())
+                .extracting(ChallengeResponse::getImageUrl)
+                .allSatisfy(url -> assertThat(url).endsWith("_thumb_0.jpg"));
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 목록 한 페이지를 만들 때 실행된 SQL 수
+    private long countStatements(int expectedSize) {
+        em.clear();
+        statistics.clear();
+        CursorPageResponse<ChallengeResponse> page = challengeService.getAllChallenges(ChallengeSort.LATEST, null, 50);
+        assertThat(page.getItems()).hasSize(expectedSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 챌린지마다 이미지 2장 (sortOrder 0 이 썸네일)
+    private void saveChallenges(int count) {
+        for (int i = 0; i < count; i++) {
+            Challenge challenge = em.persist(Challenge.builder()
+                    .challengeScope(ChallengeScope.PUBLIC)
+                    .challengeType(ChallengeType.DURATION)
+                    .challengeName("챌린지 " + i)
+                    .challengeDuration(7)
+                    .build());
+            for (int order = 0; order < 2; order++) {
+                em.persist(ChallengeImage.builder()
+                        .challenge(challenge)
+                        .imageUrl("https://img/" + challenge.getChallengeId() + "_" + order + ".jpg")
+                        .thumbnailUrl("https://img/" + challenge.getChallengeId() + "_thumb_" + order + ".jpg")
+                        .sortOrder(order)
+                        .isThumbnail(order == 0)
+                        .build());
+            }
+        }
+        em.flush();
+    }
+}
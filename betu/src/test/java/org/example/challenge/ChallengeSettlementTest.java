@@ -0,0 +1,231 @@
+package org.example.challenge;
+
+import org.example.challenge.dto.SettleSuccessResponse;
+import org.example.challenge.entity.Challenge;
+import org.example.challenge.entity.ChallengeScope;
+import org.example.challenge.entity.ChallengeType;
+import org.example.challenge.entity.UserChallenge;
+import org.example.challenge.entity.UserChallengeRole;
+import org.example.challenge.entity.UserChallengeStatus;
+import org.example.challenge.repository.ChallengeRepository;
+import org.example.challenge.repository.UserChallengeRepository;
+import org.example.crew.CrewLeaderboardService;
+import org.example.general.PagingPolicy;
+import org.example.general.S3Uploader;
+import org.example.like.LikeCounterService;
+import org.example.money.PointLedger;
+import org.example.money.PointLedgerRepository;
+import org.example.money.PointLedgerService;
+import org.example.search.SearchIndexService;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.example.verification_image.VerificationDuplicateIndex;
+import org.example.verification_image.VerificationImage;
+import org.example.verification_image.VerificationImageRepository;
+import org.example.verification_image.VerificationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정산은 IN_PROGRESS -> 종료 상태 조건부 전이에 성공한 한 번만 지급되는지.
+ * 동시 요청이 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 지운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ChallengeService.class, PagingPolicy.class, PointLedgerService.class})
+class ChallengeSettlementTest {
+
+    private static final long BET = 1_000L;
+
+    @Autowired ChallengeService challengeService;
+    @Autowired UserRepository userRepository;
+    @Autowired ChallengeRepository challengeRepository;
+    @Autowired UserChallengeRepository userChallengeRepository;
+    @Autowired VerificationImageRepository verificationImageRepository;
+    @Autowired PointLedgerRepository pointLedgerRepository;
+
+    @MockBean VerificationDuplicateIndex verificationDuplicateIndex;
+    @MockBean S3Uploader s3Uploader;
+    @MockBean SearchIndexService searchIndexService;
+    @MockBean LikeCounterService likeCounterService;
+    @MockBean CrewLeaderboardService crewLeaderboardService;
+
+    private int userSeq;
+
+    @AfterEach
+    void cleanUp() {
+        verificationImageRepository.deleteAllInBatch();
+        pointLedgerRepository.deleteAllInBatch();
+        userChallengeRepository.deleteAllInBatch();
+        challengeRepository.deleteAll(); // 태그 컬렉션 테이블까지
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 동시에_성공_정산해도_한_번만_지급한다() throws Exception {
+        Challenge challenge = saveChallenge(3);
+        User user = saveUser();
+        saveParticipation(user, challenge, UserChallengeStatus.IN_PROGRESS, LocalDateTime.now().plusDays(1));
+
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<SettleSuccessResponse>> results = new ArrayList<>();
+        try {
+            Callable<SettleSuccessResponse> settle = () -> {
+                start.await();
+                return challengeService.settleSuccess(user.getUserId(), challenge.getChallengeId());
+            };
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(settle));
+            }
+            start.countDown();
+
+            List<SettleSuccessResponse> succeeded = new ArrayList<>();
+            for (Future<SettleSuccessResponse> result : results) {
+                try {
+                    succeeded.add(result.get(30, TimeUnit.SECONDS));
+                } catch (ExecutionException ignored) {
+                    // 전이에 진 요청은 예외로 롤백
+                }
+            }
+
+            assertThat(succeeded).hasSize(1);
+            SettleSuccessResponse paid = succeeded.get(0);
+            assertThat(ledgerCount(user, PointLedger.Type.SETTLE_REFUND)).isEqualTo(1);
+            assertThat(userRepository.findPointByUserId(user.getUserId()))
+                    .contains(paid.getRefundAmount() + paid.getBonusPointsCredited());
+            assertThat(statusOf(user, challenge)).isEqualTo(UserChallengeStatus.COMPLETED);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 실패한_참가는_성공_정산으로_환급받을_수_없다() {
+        Challenge challenge = saveChallenge(3);
+        User user = saveUser();
+        saveParticipation(user, challenge, UserChallengeStatus.FAILED, LocalDateTime.now().minusDays(1));
+
+        assertThatThrownBy(() -> challengeService.settleSuccess(user.getUserId(), challenge.getChallengeId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ledgerCount(user, PointLedger.Type.SETTLE_REFUND)).isZero();
+    }
+
+    @Test
+    void 만료_정산은_진행_중이고_기간이_끝난_행만_처리한다() {
+        Challenge challenge = saveChallenge(2);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime past = now.toLocalDate().atStartOfDay(); // 오늘 0시에 끝난 2일짜리 회차
+        LocalDateTime firstDay = past.minusDays(2).withHour(12);
+        LocalDateTime secondDay = past.minusDays(1).withHour(12);
+
+        User achiever = saveUser();
+        User idler = saveUser();
+        User completed = saveUser();
+        User failed = saveUser();
+        User running = saveUser();
+        UserChallenge achieved = saveParticipation(achiever, challenge, UserChallengeStatus.IN_PROGRESS, past);
+        UserChallenge missed = saveParticipation(idler, challenge, UserChallengeStatus.IN_PROGRESS, past);
+        UserChallenge alreadyCompleted = saveParticipation(completed, challenge, UserChallengeStatus.COMPLETED, past);
+        UserChallenge alreadyFailed = saveParticipation(failed, challenge, UserChallengeStatus.FAILED, past);
+        UserChallenge notExpired = saveParticipation(running, challenge, UserChallengeStatus.IN_PROGRESS, now.plusDays(1));
+
+        // 이틀 동안 승인 (같은 날 여러 장은 하루로)
+        saveVerification(achieved, firstDay, VerificationStatus.APPROVED);
+        saveVerification(achieved, firstDay.plusHours(1), VerificationStatus.APPROVED);
+        saveVerification(achieved, secondDay, VerificationStatus.APPROVED);
+        // 업로드는 많지만 승인된 날은 하루뿐
+        saveVerification(missed, firstDay, VerificationStatus.APPROVED);
+        saveVerification(missed, firstDay.plusHours(1), VerificationStatus.APPROVED);
+        saveVerification(missed, secondDay, VerificationStatus.PENDING);
+        saveVerification(missed, secondDay.plusHours(1), VerificationStatus.REJECTED);
+
+        int settled = challengeService.settleExpired(List.of(
+                achieved.getUserChallengeId(), missed.getUserChallengeId(), alreadyCompleted.getUserChallengeId(),
+                alreadyFailed.getUserChallengeId(), notExpired.getUserChallengeId()), now);
+
+        assertThat(settled).isEqualTo(2);
+        assertThat(statusOf(achiever, challenge)).isEqualTo(UserChallengeStatus.COMPLETED);
+        assertThat(statusOf(idler, challenge)).isEqualTo(UserChallengeStatus.FAILED);
+        assertThat(statusOf(completed, challenge)).isEqualTo(UserChallengeStatus.COMPLETED);
+        assertThat(statusOf(failed, challenge)).isEqualTo(UserChallengeStatus.FAILED);
+        assertThat(statusOf(running, challenge)).isEqualTo(UserChallengeStatus.IN_PROGRESS);
+
+        assertThat(ledgerCount(achiever, PointLedger.Type.SETTLE_REFUND)).isEqualTo(1);
+        for (User untouched : List.of(idler, completed, failed, running)) {
+            assertThat(ledgerCount(untouched, PointLedger.Type.SETTLE_REFUND)).isZero();
+            assertThat(userRepository.findPointByUserId(untouched.getUserId())).contains(0L);
+        }
+    }
+
+    private Challenge saveChallenge(int durationDays) {
+        return challengeRepository.save(Challenge.builder()
+                .challengeScope(ChallengeScope.PUBLIC)
+                .challengeType(ChallengeType.DURATION)
+                .challengeName("정산 테스트")
+                .challengeDuration(durationDays)
+                .build());
+    }
+
+    private User saveUser() {
+        int seq = ++userSeq;
+        return userRepository.save(User.builder()
+                .userName("user" + seq)
+                .userEmail("user" + seq + "@betu.test")
+                .build());
+    }
+
+    // 베팅 차감은 이미 끝난 상태로 가정 (잔액 0)
+    private UserChallenge saveParticipation(User user, Challenge challenge, UserChallengeStatus status,
+                                            LocalDateTime endsAt) {
+        UserChallenge uc = new UserChallenge(user, challenge, UserChallengeRole.PARTICIPANT);
+        uc.startRun(BET, endsAt.minusDays(challenge.getChallengeDuration()), endsAt);
+        uc.changeStatus(status);
+        return userChallengeRepository.save(uc);
+    }
+
+    private void saveVerification(UserChallenge uc, LocalDateTime uploadedAt, VerificationStatus status) {
+        verificationImageRepository.save(VerificationImage.builder()
+                .userChallenge(uc)
+                .imageUrl("https://img/" + uc.getUserChallengeId() + "/" + uploadedAt + ".jpg")
+                .uploadedAt(uploadedAt)
+                .verificationStatus(status)
+                .build());
+    }
+
+    private UserChallengeStatus statusOf(User user, Challenge challenge) {
+        return userChallengeRepository
+                .findByUser_UserIdAndChallenge_ChallengeId(user.getUserId(), challenge.getChallengeId())
+                .orElseThrow()
+                .getUserChallengeStatus();
+    }
+
+    private long ledgerCount(User user, PointLedger.Type type) {
+        return pointLedgerRepository.findAll().stream()
+                .filter(l -> l.getUserId().equals(user.getUserId()) && l.getType() == type)
+                .count();
+    }
+}
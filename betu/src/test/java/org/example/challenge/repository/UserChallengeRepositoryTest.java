@@ -0,0 +1,89 @@
+package org.example.challenge.repository;
+
+import org.example.challenge.entity.Challenge;
+import org.example.challenge.entity.ChallengeScope;
+import org.example.challenge.entity.ChallengeType;
+import org.example.challenge.entity.UserChallenge;
+import org.example.challenge.entity.UserChallengeRole;
+import org.example.challenge.entity.UserChallengeStatus;
+import org.example.user.User;
+import org.example.verification_image.VerificationImage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 참가 기록 상태 일괄/조건부 변경은 진행 중인 행만 건드린다 */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserChallengeRepositoryTest {
+
+    @Autowired UserChallengeRepository userChallengeRepository;
+    @Autowired TestEntityManager em;
+
+    private int seq;
+
+    @Test
+    void 일괄_거절은_이미_정산된_참가를_FAILED_로_바꾸지_않는다() {
+        Challenge challenge = saveChallenge();
+        UserChallenge inProgress = saveParticipation(challenge, UserChallengeStatus.IN_PROGRESS);
+        UserChallenge completed = saveParticipation(challenge, UserChallengeStatus.COMPLETED);
+        Long inProgressImage = saveImage(inProgress);
+        Long completedImage = saveImage(completed);
+
+        int updated = userChallengeRepository.updateStatusByVerificationImageIds(
+                List.of(inProgressImage, completedImage), UserChallengeStatus.FAILED);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(statusOf(inProgress)).isEqualTo(UserChallengeStatus.FAILED);
+        assertThat(statusOf(completed)).isEqualTo(UserChallengeStatus.COMPLETED);
+    }
+
+    @Test
+    void 조건부_전이는_현재_상태가_다르면_0행이다() {
+        UserChallenge completed = saveParticipation(saveChallenge(), UserChallengeStatus.COMPLETED);
+
+        int updated = userChallengeRepository.transitionStatus(
+                completed.getUserChallengeId(), UserChallengeStatus.IN_PROGRESS, UserChallengeStatus.FAILED);
+
+        assertThat(updated).isZero();
+        assertThat(statusOf(completed)).isEqualTo(UserChallengeStatus.COMPLETED);
+    }
+
+    private Challenge saveChallenge() {
+        return em.persist(Challenge.builder()
+                .challengeScope(ChallengeScope.PUBLIC)
+                .challengeType(ChallengeType.DURATION)
+                .challengeName("상태 테스트")
+                .challengeDuration(3)
+                .build());
+    }
+
+    private UserChallenge saveParticipation(Challenge challenge, UserChallengeStatus status) {
+        int n = ++seq;
+        User user = em.persist(User.builder().userName("u" + n).userEmail("u" + n + "@betu.test").build());
+        UserChallenge uc = new UserChallenge(user, challenge, UserChallengeRole.PARTICIPANT);
+        uc.startRun(0L, LocalDateTime.now().minusDays(3), LocalDateTime.now());
+        uc.changeStatus(status);
+        return em.persistAndFlush(uc);
+    }
+
+    private Long saveImage(UserChallenge uc) {
+        return em.persistAndFlush(VerificationImage.builder()
+                .userChallenge(uc)
+                .imageUrl("https://img/" + uc.getUserChallengeId() + ".jpg")
+                .uploadedAt(LocalDateTime.now())
+                .build()).getCertificationImageId();
+    }
+
+    private UserChallengeStatus statusOf(UserChallenge uc) {
+        em.clear();
+        return userChallengeRepository.findById(uc.getUserChallengeId()).orElseThrow().getUserChallengeStatus();
+    }
+}
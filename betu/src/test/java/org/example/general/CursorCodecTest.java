@@ -0,0 +1,42 @@
+package org.example.general;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void 인코딩한_값을_그대로_돌려준다() {
+        String cursor = CursorCodec.encode(42L, -7L, Long.MAX_VALUE);
+
+        assertThat(CursorCodec.decode(cursor, 3)).containsExactly(42L, -7L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void 커서는_URL_에_그대로_쓸_수_있다() {
+        assertThat(CursorCodec.encode(123456789L, 987654321L)).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 커서가_없으면_null() {
+        assertThat(CursorCodec.decode(null, 2)).isNull();
+        assertThat(CursorCodec.decode(" ", 2)).isNull();
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_IllegalArgumentException() {
+        String otherVersion = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v0:1:2".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorCodec.decode("%%%", 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode(1L), 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(otherVersion, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode(1L, 2L).substring(2), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.general;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 로컬 S3 대역: 객체를 메모리에 보관하는 동기/비동기 클라이언트.
+ * S3Uploader 가 쓰는 PUT / multipart / DELETE 만 구현하고, 키에 특정 문자열이 들어가면 실패시킬 수 있다.
+ */
+class InMemoryS3 {
+
+    record StoredObject(byte[] bytes, String contentType) {
+    }
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final List<String> deletedKeys = new CopyOnWriteArrayList<>();
+    private final List<String> abortedUploads = new CopyOnWriteArrayList<>();
+    private final Set<String> failingKeyParts = ConcurrentHashMap.newKeySet();
+    private volatile int completedMultipartParts;
+
+    Map<String, StoredObject> objects() {
+        return objects;
+    }
+
+    List<String> deletedKeys() {
+        return deletedKeys;
+    }
+
+    List<String> abortedUploads() {
+        return abortedUploads;
+    }
+
+    int completedMultipartParts() {
+        return completedMultipartParts;
+    }
+
+    // 키에 part 가 들어간 PUT 은 실패
+    void failPutsContaining(String part) {
+        failingKeyParts.add(part);
+    }
+
+    S3Client syncClient() {
+        return new S3Client() {
+            @Override
+            public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+                checkFailure(request.key());
+                store(request.key(), readAll(body), request.contentType());
+                return PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+            }
+
+            @Override
+            public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+                String uploadId = UUID.randomUUID().toString();
+                multipartUploads.put(uploadId, new TreeMap<>());
+                return CreateMultipartUploadResponse.builder().uploadId(uploadId).key(request.key()).build();
+            }
+
+            @Override
+            public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+                checkFailure(request.key());
+                multipartUploads.get(request.uploadId()).put(request.partNumber(), readAll(body));
+                return UploadPartResponse.builder().eTag("part-" + request.partNumber()).build();
+            }
+
+            @Override
+            public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+                Map<Integer, byte[]> parts = multipartUploads.remove(request.uploadId());
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                for (CompletedPart part : request.multipartUpload().parts()) {
+                    out.writeBytes(parts.get(part.partNumber()));
+                }
+                completedMultipartParts = parts.size();
+                store(request.key(), out.toByteArray(), null);
+                return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+            }
+
+            @Override
+            public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+                multipartUploads.remove(request.uploadId());
+                abortedUploads.add(request.uploadId());
+                return AbortMultipartUploadResponse.builder().build();
+            }
+
+            @Override
+            public String serviceName() {
+                return SERVICE_NAME;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    S3AsyncClient asyncClient() {
+        return new S3AsyncClient() {
+            @Override
+            public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+                return readAll(body).thenApply(bytes -> {
+                    checkFailure(request.key());
+                    store(request.key(), bytes, request.contentType());
+                    return PutObjectResponse.builder().eTag(UUID.randomUUID().toString()).build();
+                });
+            }
+
+            @Override
+            public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest request) {
+                objects.remove(request.key());
+                deletedKeys.add(request.key());
+                return CompletableFuture.completedFuture(DeleteObjectResponse.builder().build());
+            }
+
+            @Override
+            public String serviceName() {
+                return SERVICE_NAME;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private void store(String key, byte[] bytes, String contentType) {
+        objects.put(key, new StoredObject(bytes, contentType));
+    }
+
+    private void checkFailure(String key) {
+        for (String part : failingKeyParts) {
+            if (key.contains(part)) {
+                throw S3Exception.builder().message("injected failure: " + key).statusCode(500).build();
+            }
+        }
+    }
+
+    private static byte[] readAll(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CompletableFuture<byte[]> readAll(AsyncRequestBody body) {
+        CompletableFuture<byte[]> done = new CompletableFuture<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                out.writeBytes(chunk);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(out.toByteArray());
+            }
+        });
+        return done;
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.general;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** S3Uploader 병렬/스트리밍 업로드를 메모리 S3 대역(InMemoryS3)에 올려서 확인 */
+class S3UploaderTest {
+
+    private static final String BUCKET = "betu-test";
+    private static final String BASE_URL = "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/";
+
+    private final InMemoryS3 s3 = new InMemoryS3();
+    private final ImageDedupIndex dedupIndex = mock(ImageDedupIndex.class);
+    private ImageProcessor imageProcessor;
+    private S3Uploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        imageProcessor = new ImageProcessor(64, 128, 2, 16);
+        uploader = new S3Uploader(s3.syncClient(), s3.asyncClient(),
+                new S3PartBufferPool(64 * 1024, 2), imageProcessor, dedupIndex);
+        ReflectionTestUtils.setField(uploader, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(uploader, "multipartThreshold", 8L * 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageProcessor.shutdown();
+    }
+
+    @Test
+    void 여러_이미지를_입력_순서대로_원본과_축소본까지_올린다() throws Exception {
+        MockMultipartFile first = png("a.png", 400, 300, 1);
+        MockMultipartFile second = png("b.png", 300, 400, 2);
+
+        List<UploadedImage> uploaded = uploader.uploadAll(List.of(first, second), "crew/1/post");
+
+        assertThat(uploaded).hasSize(2);
+        assertUploaded(uploaded.get(0), first, "crew/1/post");
+        assertUploaded(uploaded.get(1), second, "crew/1/post");
+    }
+
+    @Test
+    void 빈_파일은_건너뛴다() throws Exception {
+        MockMultipartFile empty = new MockMultipartFile("images", "empty.png", "image/png", new byte[0]);
+        MockMultipartFile image = png("a.png", 200, 200, 3);
+
+        List<UploadedImage> uploaded = uploader.uploadAll(List.of(empty, image), "crew");
+
+        assertThat(uploaded).hasSize(1);
+        assertUploaded(uploaded.get(0), image, "crew");
+    }
+
+    @Test
+    void 이미_올라간_내용이면_PUT_없이_기존_URL을_돌려준다() throws Exception {
+        MockMultipartFile image = png("a.png", 200, 200, 4);
+        String key = "crew/" + sha256(image.getBytes()) + ".png";
+        UploadedImage existing = new UploadedImage(BASE_URL + key, BASE_URL + "m.jpg", BASE_URL + "t.jpg", true, null);
+        when(dedupIndex.find(eq(key))).thenReturn(Optional.of(existing));
+
+        List<UploadedImage> uploaded = uploader.uploadAll(List.of(image), "crew");
+
+        assertThat(uploaded).containsExactly(existing);
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    void 하나라도_실패하면_IOException_이고_이미_올라간_객체는_지우지_않는다() throws Exception {
+        s3.failPutsContaining("_thumb");
+
+        assertThatThrownBy(() -> uploader.uploadAll(List.of(png("a.png", 400, 300, 5)), "crew"))
+                .isInstanceOf(IOException.class);
+        assertThat(s3.deletedKeys()).isEmpty(); // 내용 주소 키는 다른 요청이 참조할 수 있음
+    }
+
+    @Test
+    void 큰_파일은_풀링된_버퍼로_multipart_업로드한다() throws Exception {
+        ReflectionTestUtils.setField(uploader, "multipartThreshold", 1024L);
+        MockMultipartFile image = png("large.png", 250, 250, 6); // 노이즈라 압축이 거의 안 됨 (~190KB, 파트 3개)
+        assertThat(image.getSize()).isGreaterThan(2 * 64 * 1024);
+
+        UploadedImage uploaded = uploader.uploadImageWithVariants(image, "challenge/1/user/2");
+
+        String key = uploaded.getImageUrl().substring(BASE_URL.length());
+        assertThat(s3.objects().get(key).bytes()).isEqualTo(image.getBytes());
+        assertThat(s3.completedMultipartParts()).isEqualTo((int) Math.ceil(image.getSize() / (64.0 * 1024)));
+        assertThat(s3.abortedUploads()).isEmpty();
+    }
+
+    @Test
+    void 단일_업로드는_축소본과_같은_디코딩으로_지각_해시를_돌려준다() throws Exception {
+        MockMultipartFile image = png("a.png", 400, 300, 7);
+
+        UploadedImage uploaded = uploader.uploadImageWithVariants(image, "challenge/1/user/2");
+
+        assertThat(uploaded.getPerceptualHash()).isEqualTo(imageProcessor.differenceHash(image));
+        assertThat(uploaded.getThumbnailUrl()).isNotEqualTo(uploaded.getImageUrl());
+    }
+
+    @Test
+    void 재사용된_단일_업로드도_지각_해시를_돌려준다() throws Exception {
+        MockMultipartFile image = png("a.png", 200, 200, 8);
+        String key = "challenge/1/user/2/" + sha256(image.getBytes()) + ".png";
+        when(dedupIndex.find(eq(key))).thenReturn(Optional.of(
+                new UploadedImage(BASE_URL + key, BASE_URL + key, BASE_URL + key, true, null)));
+
+        UploadedImage uploaded = uploader.uploadImageWithVariants(image, "challenge/1/user/2");
+
+        assertThat(uploaded.isReused()).isTrue();
+        assertThat(uploaded.getPerceptualHash()).isEqualTo(imageProcessor.differenceHash(image));
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    private void assertUploaded(UploadedImage uploaded, MockMultipartFile source, String prefix) throws Exception {
+        String key = prefix + "/" + sha256(source.getBytes()) + ".png";
+        assertThat(uploaded.getImageUrl()).isEqualTo(BASE_URL + key);
+        assertThat(uploaded.isReused()).isFalse();
+        assertThat(s3.objects().get(key).bytes()).isEqualTo(source.getBytes());
+        assertThat(s3.objects().get(key).contentType()).isEqualTo("image/png");
+
+        List<String> variantKeys = new ArrayList<>();
+        for (String url : List.of(uploaded.getThumbnailUrl(), uploaded.getMediumUrl())) {
+            assertThat(url).startsWith(BASE_URL);
+            variantKeys.add(url.substring(BASE_URL.length()));
+        }
+        assertThat(variantKeys).containsExactly(
+                prefix + "/" + sha256(source.getBytes()) + "_thumb.jpg",
+                prefix + "/" + sha256(source.getBytes()) + "_medium.jpg");
+        assertThat(s3.objects()).containsKeys(variantKeys.toArray(String[]::new));
+    }
+
+    // 랜덤 노이즈 PNG (시드가 다르면 내용도 달라 키가 겹치지 않음)
+    private static MockMultipartFile png(String name, int width, int height, long seed) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(seed);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("images", name, "image/png", out.toByteArray());
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.like;
+
+import org.example.challenge.repository.ChallengeLikeRepository;
+import org.example.community.entity.Comment;
+import org.example.community.entity.Post;
+import org.example.community.repository.CommentLikeRepository;
+import org.example.community.repository.PostLikeRepository;
+import org.example.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 좋아요 행 추가는 이미 있으면 0 을 돌려주고 unique 위반으로 실패하지 않는다 (동시에 들어온 첫 좋아요) */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LikeRowRepositoryTest {
+
+    @Autowired ChallengeLikeRepository challengeLikeRepository;
+    @Autowired PostLikeRepository postLikeRepository;
+    @Autowired CommentLikeRepository commentLikeRepository;
+    @Autowired TestEntityManager em;
+
+    @Test
+    void 챌린지_좋아요는_한_번만_추가된다() {
+        assertThat(challengeLikeRepository.insertLike(1L, 10L)).isEqualTo(1);
+        assertThat(challengeLikeRepository.insertLike(1L, 10L)).isZero();
+
+        assertThat(challengeLikeRepository.existsByUserIdAndChallengeId(1L, 10L)).isTrue();
+        assertThat(challengeLikeRepository.deleteLike(1L, 10L)).isEqualTo(1);
+        assertThat(challengeLikeRepository.deleteLike(1L, 10L)).isZero();
+    }
+
+    @Test
+    void 게시글_좋아요는_한_번만_추가된다() {
+        assertThat(postLikeRepository.insertLike(1L, 20L)).isEqualTo(1);
+        assertThat(postLikeRepository.insertLike(1L, 20L)).isZero();
+        assertThat(postLikeRepository.insertLike(2L, 20L)).isEqualTo(1);
+
+        assertThat(postLikeRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 댓글_좋아요는_한_번만_추가되고_생성_시각이_채워진다() {
+        User user = em.persist(User.builder().userName("liker").userEmail("liker@betu.test").build());
+        Post post = em.persist(new Post(null, null, user, "제목", "본문", 0, LocalDateTime.now()));
+        Comment comment = em.persistAndFlush(Comment.builder().post(post).user(user).commentContent("댓글").build());
+
+        assertThat(commentLikeRepository.insertLike(user.getUserId(), comment.getCommentId())).isEqualTo(1);
+        assertThat(commentLikeRepository.insertLike(user.getUserId(), comment.getCommentId())).isZero();
+
+        assertThat(commentLikeRepository.countByComment_CommentId(comment.getCommentId())).isEqualTo(1);
+        assertThat(commentLikeRepository.findAll()).allMatch(cl -> cl.getCreatedAt() != null);
+    }
+}
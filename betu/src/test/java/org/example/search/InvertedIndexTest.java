@@ -0,0 +1,149 @@
+package org.example.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** InvertedIndex 교집합/순위/커서/압축 동작 */
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    private void put(long id, long group, String title, String body) {
+        index.upsert(id, group, NgramTokenizer.terms(title, 3, body));
+    }
+
+    private SearchHits search(String query) {
+        return index.search(NgramTokenizer.queryTerms(query), null, null, null, 10);
+    }
+
+    @Test
+    void 모든_토큰을_포함한_문서만_가중치_합_순으로_찾는다() {
+        put(1L, 0, "아침 물마시기", "하루 여덟 잔");
+        put(2L, 0, "독서", "아침마다 물마시기 인증");
+        put(3L, 0, "물구나무", "아침 운동");
+
+        SearchHits hits = search("물마시기");
+
+        assertThat(hits.getIds()).containsExactly(1L, 2L); // 제목 매칭(가중치 3)이 먼저
+        assertThat(hits.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 점수가_같으면_최신_id_부터() {
+        put(1L, 0, "", "러닝");
+        put(2L, 0, "", "러닝");
+        put(3L, 0, "", "러닝");
+
+        assertThat(search("러닝").getIds()).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void 한_글자_검색어는_그_글자를_포함한_문서를_찾는다() {
+        put(1L, 0, "물마시기", null);
+        put(2L, 0, "독서", null);
+        put(3L, 0, "냉수", null);
+
+        assertThat(search("수").getIds()).containsExactly(3L);
+        assertThat(search("물").getIds()).containsExactly(1L);
+        assertThat(search("책").getIds()).isEmpty();
+    }
+
+    @Test
+    void 한_글자와_두_글자_검색어를_함께_쓰면_둘_다_포함한_문서만() {
+        put(1L, 0, "물마시기 책", null);
+        put(2L, 0, "물마시기", null);
+
+        assertThat(index.search(Set.of("마시", "책"), null, null, null, 10).getIds()).containsExactly(1L);
+    }
+
+    @Test
+    void group_이_지정되면_해당_group_문서만() {
+        put(1L, 0, "러닝", null);
+        put(2L, 7, "러닝", null);
+
+        assertThat(index.search(Set.of("러닝"), 7L, null, null, 10).getIds()).containsExactly(2L);
+        assertThat(index.search(Set.of("러닝"), 0L, null, null, 10).getIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 커서로_이어_받으면_중복_없이_모든_결과를_순서대로_받는다() {
+        for (long id = 1; id <= 25; id++) {
+            put(id, 0, id % 3 == 0 ? "러닝" : "", "러닝");
+        }
+
+        List<Long> all = new ArrayList<>();
+        Integer score = null;
+        Long cursorId = null;
+        while (true) {
+            SearchHits page = index.search(Set.of("러닝"), null, score, cursorId, 4);
+            all.addAll(page.getIds());
+            if (!page.isHasNext()) break;
+            score = page.getLastScore();
+            cursorId = page.getLastId();
+        }
+
+        assertThat(all).hasSize(25).doesNotHaveDuplicates();
+        assertThat(all.subList(0, 8)).allMatch(id -> id % 3 == 0); // 제목 매칭 8건이 먼저
+        assertThat(all.get(0)).isEqualTo(24L);
+    }
+
+    @Test
+    void 수정하면_옛_토큰으로는_찾지_못하고_삭제하면_사라진다() {
+        put(1L, 0, "러닝", null);
+        put(1L, 0, "독서", null);
+
+        assertThat(search("러닝").getIds()).isEmpty();
+        assertThat(search("러").getIds()).isEmpty();
+        assertThat(search("독서").getIds()).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(search("독서").getIds()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void 압축_후에도_살아_있는_문서와_한_글자_검색이_그대로_동작한다() {
+        int n = 30_000;
+        for (long id = 1; id <= n; id++) {
+            put(id, 0, "러닝", null);
+        }
+        for (long id = 1; id <= n; id++) {
+            if (id % 2 == 0) index.remove(id); // 죽은 번호가 쌓여 압축이 일어난다
+        }
+        put(n + 1L, 0, "러닝", null);
+
+        assertThat(index.size()).isEqualTo(n / 2 + 1);
+        assertThat(search("러닝").getIds()).startsWith((long) n + 1, (long) n - 1);
+        assertThat(search("닝").getIds()).startsWith((long) n + 1, (long) n - 1);
+    }
+
+    @Test
+    void 매칭_문서가_MAX_CANDIDATES_를_넘으면_최근_문서_범위_안에서만_결과를_준다() {
+        int n = InvertedIndex.MAX_CANDIDATES + 5;
+        for (long id = 1; id <= n; id++) {
+            index.upsert(id, 0, Map.of("러닝", 1));
+        }
+
+        List<Long> all = new ArrayList<>();
+        Integer score = null;
+        Long cursorId = null;
+        while (true) {
+            SearchHits page = index.search(Set.of("러닝"), null, score, cursorId, 1000);
+            all.addAll(page.getIds());
+            if (!page.isHasNext()) break;
+            score = page.getLastScore();
+            cursorId = page.getLastId();
+        }
+
+        assertThat(all).hasSize(InvertedIndex.MAX_CANDIDATES).doesNotHaveDuplicates();
+        assertThat(all.get(0)).isEqualTo((long) n);
+        assertThat(all.get(all.size() - 1)).isEqualTo(6L);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    void 붙여_쓴_한글을_두_글자씩_자른다() {
+        assertThat(NgramTokenizer.queryTerms("물마시기")).containsExactly("물마", "마시", "시기");
+    }
+
+    @Test
+    void 공백과_문장부호로_단어를_나누고_한_글자_단어는_그대로_둔다() {
+        assertThat(NgramTokenizer.queryTerms("책, 읽기!")).containsExactly("책", "읽기");
+    }
+
+    @Test
+    void 대소문자와_전각_문자를_정규화한다() {
+        assertThat(NgramTokenizer.queryTerms("ＲＵＮ")).containsExactly("ru", "un");
+        assertThat(NgramTokenizer.queryTerms("Run")).containsExactly("ru", "un");
+    }
+
+    @Test
+    void 빈_검색어는_토큰이_없다() {
+        assertThat(NgramTokenizer.queryTerms("  ")).isEmpty();
+        assertThat(NgramTokenizer.queryTerms(null)).isEmpty();
+    }
+
+    @Test
+    void 문서_토큰은_제목_가중치와_본문_등장_횟수를_더한다() {
+        Map<String, Integer> terms = NgramTokenizer.terms("러닝", 3, "러닝 러닝");
+
+        assertThat(terms).containsEntry("러닝", 3 + 2);
+    }
+
+    @Test
+    void 본문은_앞부분만_색인한다() {
+        String body = "가".repeat(1000) + " 러닝";
+
+        assertThat(NgramTokenizer.terms(null, 3, body)).doesNotContainKey("러닝");
+    }
+}
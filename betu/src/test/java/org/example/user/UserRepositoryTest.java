@@ -0,0 +1,49 @@
+package org.example.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 포인트 조건부 원자적 update (잔액 부족이면 0행) */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRepositoryTest {
+
+    @Autowired UserRepository userRepository;
+
+    @Test
+    void 잔액보다_많이_차감하면_0행이고_잔액은_그대로다() {
+        Long userId = saveUser(1_000L);
+
+        assertThat(userRepository.debitPoint(userId, 1_001L)).isZero();
+        assertThat(userRepository.findPointByUserId(userId)).contains(1_000L);
+    }
+
+    @Test
+    void 잔액만큼은_차감할_수_있다() {
+        Long userId = saveUser(1_000L);
+
+        assertThat(userRepository.debitPoint(userId, 1_000L)).isEqualTo(1);
+        assertThat(userRepository.findPointByUserId(userId)).contains(0L);
+        assertThat(userRepository.debitPoint(userId, 1L)).isZero();
+    }
+
+    @Test
+    void 적립은_현재_잔액에_더한다() {
+        Long userId = saveUser(500L);
+
+        assertThat(userRepository.creditPoint(userId, 250L)).isEqualTo(1);
+        assertThat(userRepository.findPointByUserId(userId)).contains(750L);
+    }
+
+    private Long saveUser(long point) {
+        return userRepository.saveAndFlush(User.builder()
+                .userName("tester")
+                .userEmail("tester@betu.test")
+                .point(point)
+                .build()).getUserId();
+    }
+}
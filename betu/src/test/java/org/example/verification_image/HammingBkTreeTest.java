@@ -0,0 +1,63 @@
+package org.example.verification_image;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HammingBkTreeTest {
+
+    private final HammingBkTree tree = new HammingBkTree();
+
+    @Test
+    void 최대_거리_이내면_찾고_넘으면_null() {
+        long hash = 0x0F0F_0F0F_0F0F_0F0FL;
+        tree.add(hash, 1L);
+
+        assertThat(tree.findNearest(hash ^ 0b111L, 3)).isEqualTo(1L);      // 거리 3
+        assertThat(tree.findNearest(hash ^ 0b1111L, 3)).isNull();          // 거리 4
+        assertThat(new HammingBkTree().findNearest(hash, 64)).isNull();    // 빈 트리
+    }
+
+    @Test
+    void 여러_후보_중_가장_가까운_이미지를_찾는다() {
+        long base = 0L;
+        tree.add(base ^ 0xFFL, 1L);   // 거리 8
+        tree.add(base ^ 0b11L, 2L);   // 거리 2
+        tree.add(base ^ 0xF0F0L, 3L); // 거리 8
+        tree.add(base ^ 0b1L, 4L);    // 거리 1
+
+        assertThat(tree.findNearest(base, 6)).isEqualTo(4L);
+        assertThat(tree.findNearest(base ^ 0xFFL, 0)).isEqualTo(1L);
+    }
+
+    @Test
+    void 같은_해시는_처음_올라온_이미지로_대표한다() {
+        tree.add(42L, 1L);
+        tree.add(42L, 2L);
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.findNearest(42L, 0)).isEqualTo(1L);
+    }
+
+    @Test
+    void 가지치기해도_전수_비교와_같은_거리를_찾는다() {
+        Random random = new Random(7);
+        long[] hashes = new long[2000];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = random.nextLong();
+            tree.add(hashes[i], i);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            long query = hashes[random.nextInt(hashes.length)] ^ (1L << random.nextInt(64)) ^ (1L << random.nextInt(64));
+            int expected = Integer.MAX_VALUE;
+            for (long h : hashes) expected = Math.min(expected, HammingBkTree.distance(h, query));
+
+            Long found = tree.findNearest(query, 6);
+            assertThat(found).isNotNull();
+            assertThat(HammingBkTree.distance(hashes[found.intValue()], query)).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.verification_image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 트랜잭션 밖에서 부르므로 addAfterCommit 은 즉시 반영된다 */
+class VerificationDuplicateIndexTest {
+
+    private static final long CHALLENGE_ID = 1L;
+
+    private final VerificationImageRepository repository = mock(VerificationImageRepository.class);
+    private final VerificationDuplicateIndex index =
+            new VerificationDuplicateIndex(repository, 6, new SimpleMeterRegistry());
+
+    @Test
+    void 처음_조회할_때_DB_해시로_채우고_이후에는_다시_읽지_않는다() {
+        when(repository.findPerceptualHashesByChallengeId(CHALLENGE_ID))
+                .thenReturn(rows(new Object[]{10L, 0xFF00L}));
+
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, 0xFF01L)).isEqualTo(10L);
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, ~0xFF00L)).isNull();
+
+        verify(repository, times(1)).findPerceptualHashesByChallengeId(CHALLENGE_ID);
+    }
+
+    @Test
+    void 로드_중에_커밋된_추가는_대기_큐를_거쳐_게시된_트리에_반영된다() {
+        when(repository.findPerceptualHashesByChallengeId(CHALLENGE_ID)).thenAnswer(inv -> {
+            // DB 를 읽은 뒤 트리를 게시하기 전에 다른 업로드가 커밋됨 (로드 결과에는 없음)
+            index.addAfterCommit(CHALLENGE_ID, 0x00FFL, 20L);
+            return rows(new Object[]{10L, 0xFF00L});
+        });
+
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, 0xFF00L)).isEqualTo(10L);
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, 0x00FFL)).isEqualTo(20L);
+    }
+
+    @Test
+    void 게시_후_추가는_트리에_바로_반영되고_무효화하면_다시_로드한다() {
+        when(repository.findPerceptualHashesByChallengeId(CHALLENGE_ID)).thenReturn(rows());
+
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, 0x1234L)).isNull();
+        index.addAfterCommit(CHALLENGE_ID, 0x1234L, 30L);
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, 0x1234L)).isEqualTo(30L);
+
+        index.evictAfterCommit(CHALLENGE_ID);
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, 0x1234L)).isNull(); // DB 에는 없음
+        verify(repository, times(2)).findPerceptualHashesByChallengeId(CHALLENGE_ID);
+    }
+
+    @Test
+    void 로드_전에_커밋된_추가는_버리고_DB_로드로_채운다() {
+        index.addAfterCommit(CHALLENGE_ID, 0x1234L, 40L); // 트리도 큐도 없음 -> 무시 (DB 에 이미 커밋됨)
+        when(repository.findPerceptualHashesByChallengeId(CHALLENGE_ID))
+                .thenReturn(rows(new Object[]{40L, 0x1234L}));
+
+        assertThat(index.findNearDuplicate(CHALLENGE_ID, 0x1234L)).isEqualTo(40L);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}